@@ -0,0 +1,74 @@
+package graphs;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures edge ingestion and adjacency checks of {@link SimpleMutableGraph}.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EdgeLookupBenchmark {
+
+    private static final int NODES = 100_000;
+    private static final int EDGES = 500_000;
+
+    @Param({"false", "true"})
+    public boolean directed;
+
+    private MutableGraph<Integer> graph;
+
+    @Setup
+    public void setUp() {
+        graph = new SimpleMutableGraph<>(directed);
+        var random = new Random(42);
+        for (int i = 0; i < EDGES; i++) {
+            graph.addEdge(random.nextInt(NODES), random.nextInt(NODES));
+        }
+    }
+
+    @Benchmark
+    public boolean hasEdge() {
+        var random = ThreadLocalRandom.current();
+        return graph.hasEdge(random.nextInt(NODES), random.nextInt(NODES));
+    }
+
+    @Benchmark
+    public boolean edgesContains() {
+        var random = ThreadLocalRandom.current();
+        var nodeU = random.nextInt(NODES);
+        var nodeV = random.nextInt(NODES);
+        return graph.getEdges().contains(directed ? Edge.ordered(nodeU, nodeV) : Edge.unordered(nodeU, nodeV));
+    }
+
+    // Mostly duplicates, as in a repeated ingestion of the same data
+    @Benchmark
+    public boolean addExistingEdge() {
+        var random = ThreadLocalRandom.current();
+        return graph.addEdge(random.nextInt(NODES / 100), random.nextInt(NODES / 100));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public MutableGraph<Integer> ingest() {
+        MutableGraph<Integer> ingested = new SimpleMutableGraph<>(directed);
+        var random = new Random(42);
+        for (int i = 0; i < EDGES; i++) {
+            ingested.addEdge(random.nextInt(NODES), random.nextInt(NODES));
+        }
+
+        return ingested;
+    }
+
+}
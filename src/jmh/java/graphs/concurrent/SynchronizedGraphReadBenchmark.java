@@ -0,0 +1,82 @@
+package graphs.concurrent;
+
+import graphs.GraphBuilder;
+import graphs.MutableGraph;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares read scaling of synchronized graphs.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(Threads.MAX)
+public class SynchronizedGraphReadBenchmark {
+
+    private static final int NODES = 10_000;
+
+    @Param({"read-write", "stamped"})
+    public String synchronization;
+
+    private MutableGraph<Integer> graph;
+
+    @Setup
+    public void setUp() {
+        MutableGraph<Integer> delegate = GraphBuilder.undirected().build();
+        for (int i = 0; i < NODES; i++) {
+            delegate.addVertex(i);
+        }
+
+        var random = new Random(42);
+        for (int i = 0; i < NODES * 4; i++) {
+            delegate.addEdge(random.nextInt(NODES), random.nextInt(NODES));
+        }
+        // Toggled by the writer of a read-mostly group
+        delegate.removeEdge(0, 1);
+
+        graph = "stamped".equals(synchronization)
+                ? new StampedLockSynchronizedGraph<>(delegate)
+                : new ReadWriteSynchronizedGraph<>(delegate, false);
+    }
+
+    @Benchmark
+    public boolean nodesContains() {
+        return graph.getNodes().contains(ThreadLocalRandom.current().nextInt(NODES));
+    }
+
+    @Benchmark
+    public int edgesSize() {
+        return graph.getEdges().size();
+    }
+
+    // One writer toggling a single edge, so every write is a real mutation and readers pay for copying snapshots
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(7)
+    public void readMostlyReader(Blackhole blackhole) {
+        blackhole.consume(graph.getNodes().contains(ThreadLocalRandom.current().nextInt(NODES)));
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(1)
+    public boolean readMostlyWriter(WriterState writer) {
+        writer.connected = !writer.connected;
+        return writer.connected ? graph.addEdge(0, 1) : graph.removeEdge(0, 1);
+    }
+
+    @State(Scope.Thread)
+    public static class WriterState {
+        boolean connected;
+    }
+
+}
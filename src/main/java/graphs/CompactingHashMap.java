@@ -0,0 +1,111 @@
+package graphs;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.*;
+
+/**
+ * A hash map which gives memory back on removal.
+ * <p>
+ * A {@link HashMap} table never shrinks, so after a mass removal it keeps the capacity of its peak size.
+ * This map rehashes its entries into a right-sized table once its size falls to a quarter of the peak.
+ * The rehash is proportional to the remaining size and is preceded by at least three times as many removals,
+ * so removal costs amortized {@code O(1)}, the same as insertion.
+ * <p>
+ * Views of this map stay valid across rehashes.
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+final class CompactingHashMap<K, V> extends AbstractMap<K, V> {
+
+    // Small tables are not worth rehashing
+    private static final int MIN_PEAK = 64;
+
+    @NonNull
+    private HashMap<K, V> map = new HashMap<>();
+
+    // The largest size since the last rehash
+    private int peak;
+
+    @NonNull
+    private final Set<Entry<K, V>> entries = new AbstractSet<>() {
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return map.entrySet().iterator();
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+    };
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Nullable
+    @Override
+    public V get(Object key) {
+        return map.get(key);
+    }
+
+    @Nullable
+    @Override
+    public V put(K key, V value) {
+        var previous = map.put(key, value);
+        if (map.size() > peak) {
+            peak = map.size();
+        }
+
+        return previous;
+    }
+
+    @Nullable
+    @Override
+    public V remove(Object key) {
+        var removed = map.remove(key);
+        compactIfSparse();
+        return removed;
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        var removed = map.remove(key, value);
+        compactIfSparse();
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        map = new HashMap<>();
+        peak = 0;
+    }
+
+    @NonNull
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return entries;
+    }
+
+    private void compactIfSparse() {
+        if (peak >= MIN_PEAK && map.size() <= peak / 4) {
+            map = new HashMap<>(map);
+            peak = map.size();
+        }
+    }
+
+}
@@ -61,8 +61,13 @@ public abstract class Edge<N> implements GraphEdge<N> {
 
     private static final class Ordered<N> extends Edge<N> implements OrderedEdge<N> {
 
+        // Edges are hashed on every lookup, nodes are immutable as keys anyway
+        private final int hash;
+
         public Ordered(@NonNull N nodeU, @NonNull N nodeV) {
             super(nodeU, nodeV);
+            // Same as Objects.hash(source, target), without a varargs array
+            this.hash = 31 * (31 + nodeU.hashCode()) + nodeV.hashCode();
         }
 
         @NonNull
@@ -84,7 +89,7 @@ public abstract class Edge<N> implements GraphEdge<N> {
 
         @Override
         public int hashCode() {
-            return Objects.hash(getSource(), getTarget());
+            return hash;
         }
 
         @Override
@@ -110,8 +115,13 @@ public abstract class Edge<N> implements GraphEdge<N> {
 
     private static final class Unordered<N> extends Edge<N> {
 
+        private final int hash;
+
         public Unordered(@NonNull N nodeU, @NonNull N nodeV) {
             super(nodeU, nodeV);
+            // In undirected graph edges (u, v) and (v, u) are the same and should produce the same hash-code.
+            // Same as Objects.hash(u, v) + Objects.hash(v, u)
+            this.hash = 2 * 31 * 31 + 32 * (nodeU.hashCode() + nodeV.hashCode());
         }
 
         @Override
@@ -121,8 +131,7 @@ public abstract class Edge<N> implements GraphEdge<N> {
 
         @Override
         public int hashCode() {
-            // In undirected graph edges (u, v) and (v, u) are the same and should produce the same hash-code
-            return Objects.hash(getNodeU(), getNodeV()) + Objects.hash(getNodeV(), getNodeU());
+            return hash;
         }
 
         @Override
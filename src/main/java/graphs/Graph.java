@@ -31,6 +31,50 @@ public interface Graph<N> {
     @NonNull
     List<GraphEdge<N>> getPath(@NonNull N source, @NonNull N target);
 
+    /**
+     * Returns {@code true} if graph has an edge between {@code nodeU} and {@code nodeV}.
+     * For a directed graph this is an edge from {@code nodeU} to {@code nodeV}.
+     *
+     * @param nodeU the node u
+     * @param nodeV the node v
+     * @return the boolean
+     */
+    default boolean hasEdge(@NonNull N nodeU, @NonNull N nodeV) {
+        return getEdges().contains(isDirected() ? Edge.ordered(nodeU, nodeV) : Edge.unordered(nodeU, nodeV));
+    }
+
+    /**
+     * Gets distances for a batch of queries, where the i-th query is between {@code sources.get(i)} and
+     * {@code targets.get(i)}. A distance is the number of edges in a shortest path, {@code 0} from a node to itself
+     * and {@code -1} if path does not exists or one of the nodes is not part of the graph.
+     * <p>
+     * Queries are answered by a multi-source BFS that runs up to 64 traversals at once over an {@link IndexedGraph}
+     * snapshot. Taking the snapshot and the search state costs {@code O(V + E)} per call, which pays off for large
+     * batches - for a handful of pairs on a large graph calling {@link #getPath(N, N)} for each pair is cheaper.
+     *
+     * @param sources the nodes u
+     * @param targets the nodes v, of the same size as {@code sources}
+     * @return distances associated with queries
+     */
+    default int[] getDistances(@NonNull List<N> sources, @NonNull List<N> targets) {
+        return MultiSourceBfs.distances(IndexedGraph.of(this), sources, targets);
+    }
+
+    /**
+     * Gets shortest paths for a batch of queries, where the i-th query is between {@code sources.get(i)} and
+     * {@code targets.get(i)}. Paths are as of {@link #getPath(N, N)}, except that a path from a node to itself
+     * is always empty.
+     *
+     * @param sources the nodes u
+     * @param targets the nodes v, of the same size as {@code sources}
+     * @return paths associated with queries
+     * @see #getDistances(List, List)
+     */
+    @NonNull
+    default List<List<GraphEdge<N>>> getPaths(@NonNull List<N> sources, @NonNull List<N> targets) {
+        return MultiSourceBfs.paths(IndexedGraph.of(this), sources, targets);
+    }
+
     /**
      * Gets all vertices/nodes this graph has.
      *
@@ -2,6 +2,7 @@ package graphs;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
 
@@ -20,6 +21,34 @@ public interface GraphConnection<N> {
     @NonNull
     Set<N> getAdjacentNodes();
 
+    /**
+     * @return A set of nodes current node is adjacent to.
+     *         For an undirected graph these are the same as {@link #getAdjacentNodes()}
+     */
+    @NonNull
+    Set<N> getIncomingNodes();
+
+    /**
+     * @return Edges to adjacent nodes, the same instances as passed to {@link #newConnection(GraphEdge)}
+     */
+    @NonNull
+    Collection<GraphEdge<N>> getAdjacentEdges();
+
+    /**
+     * @return Edges from nodes current node is adjacent to.
+     *         For an undirected graph these are the same as {@link #getAdjacentEdges()}
+     */
+    @NonNull
+    Collection<GraphEdge<N>> getIncomingEdges();
+
+    /**
+     * Checks whether current node has a connection to a given node.
+     *
+     * @param node a node to check
+     * @return {@code true} if a given node is adjacent
+     */
+    boolean hasEdgeTo(@NonNull N node);
+
     /**
      * Returns an edge instance from current node to a given node.
      *
@@ -37,5 +66,13 @@ public interface GraphConnection<N> {
      */
     boolean newConnection(@NonNull GraphEdge<N> edge);
 
+    /**
+     * Removes connection between nodes, made by {@link #newConnection(GraphEdge)} with an equal edge.
+     *
+     * @param edge an ordered or unordered edge
+     * @return {@code true} if connection existed
+     */
+    boolean removeConnection(@NonNull GraphEdge<N> edge);
+
     boolean isDisjoint();
 }
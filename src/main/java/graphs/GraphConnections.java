@@ -8,7 +8,12 @@ public class GraphConnections {
 
     @NonNull
     public static <N> GraphConnection<N> of(@NonNull N node) {
-        return new SimpleGraphConnection<>(node);
+        return of(node, false);
+    }
+
+    @NonNull
+    public static <N> GraphConnection<N> of(@NonNull N node, boolean directed) {
+        return new SimpleGraphConnection<>(node, directed);
     }
 
     private static class SimpleGraphConnection<N> implements GraphConnection<N> {
@@ -22,8 +27,17 @@ public class GraphConnections {
         @NonNull
         private final Map<N, GraphEdge<N>> adjacentNodesView = Collections.unmodifiableMap(adjacentNodes);
 
-        private SimpleGraphConnection(@NonNull N node) {
+        // Nodes having an edge to this one. Tracked in a directed graph only, where it differs from adjacent ones
+        @NonNull
+        private final Map<N, GraphEdge<N>> incomingNodes;
+
+        @NonNull
+        private final Map<N, GraphEdge<N>> incomingNodesView;
+
+        private SimpleGraphConnection(@NonNull N node, boolean directed) {
             this.node = node;
+            this.incomingNodes = directed ? new HashMap<>() : adjacentNodes;
+            this.incomingNodesView = directed ? Collections.unmodifiableMap(incomingNodes) : adjacentNodesView;
         }
 
         @NonNull
@@ -32,6 +46,29 @@ public class GraphConnections {
             return adjacentNodesView.keySet();
         }
 
+        @NonNull
+        @Override
+        public Set<N> getIncomingNodes() {
+            return incomingNodesView.keySet();
+        }
+
+        @NonNull
+        @Override
+        public Collection<GraphEdge<N>> getAdjacentEdges() {
+            return adjacentNodesView.values();
+        }
+
+        @NonNull
+        @Override
+        public Collection<GraphEdge<N>> getIncomingEdges() {
+            return incomingNodesView.values();
+        }
+
+        @Override
+        public boolean hasEdgeTo(@NonNull N node) {
+            return adjacentNodes.containsKey(node);
+        }
+
         @NonNull
         @Override
         public Optional<GraphEdge<N>> getEdgeTo(@NonNull N node) {
@@ -42,22 +79,45 @@ public class GraphConnections {
         public boolean newConnection(@NonNull GraphEdge<N> edge) {
             if (edge.isOrdered()) {
                 var orderedEdge = (OrderedEdge<N>) edge;
-                adjacentNodes.put(orderedEdge.getTarget(), edge);
-            } else {
-                var u = edge.getNodeU();
-                var v = edge.getNodeV();
-                if (!Objects.equals(node, u)) {
-                    adjacentNodes.put(u, edge);
+                if (Objects.equals(node, orderedEdge.getSource())) {
+                    adjacentNodes.put(orderedEdge.getTarget(), edge);
                 }
 
-                if (!Objects.equals(node, v)) {
-                    adjacentNodes.put(v, edge);
+                if (Objects.equals(node, orderedEdge.getTarget())) {
+                    incomingNodes.put(orderedEdge.getSource(), edge);
                 }
+            } else {
+                // Self-loop makes node adjacent to itself
+                adjacentNodes.put(otherNode(edge), edge);
             }
 
             return true;
         }
 
+        @Override
+        public boolean removeConnection(@NonNull GraphEdge<N> edge) {
+            var removed = false;
+            if (edge.isOrdered()) {
+                var orderedEdge = (OrderedEdge<N>) edge;
+                if (Objects.equals(node, orderedEdge.getSource())) {
+                    removed = adjacentNodes.remove(orderedEdge.getTarget(), edge);
+                }
+
+                if (Objects.equals(node, orderedEdge.getTarget())) {
+                    removed |= incomingNodes.remove(orderedEdge.getSource(), edge);
+                }
+            } else {
+                removed = adjacentNodes.remove(otherNode(edge), edge);
+            }
+
+            return removed;
+        }
+
+        @NonNull
+        private N otherNode(@NonNull GraphEdge<N> edge) {
+            return Objects.equals(node, edge.getNodeU()) ? edge.getNodeV() : edge.getNodeU();
+        }
+
         @Override
         public boolean isDisjoint() {
             return adjacentNodes.isEmpty();
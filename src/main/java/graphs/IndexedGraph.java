@@ -0,0 +1,255 @@
+package graphs;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable int-indexed snapshot of a {@link Graph}.
+ * <p>
+ * Every node gets a dense index in {@code [0, size())} and adjacency is stored in a compressed sparse row form -
+ * an array of offsets and a flat array of neighbour indices. This makes traversals allocation-free and friendly to
+ * parallel processing, so it is the working structure for analytics and batched traversals.
+ * <p>
+ * Outgoing and incoming adjacency is kept separately. For an undirected graph both are the same arrays.
+ * An undirected self-loop is kept once in the row of its node, as it is in {@link GraphConnection#getAdjacentNodes()}.
+ * <p>
+ * The snapshot does not track further changes of the source graph.
+ *
+ * @param <N> Vertex/node type
+ */
+public final class IndexedGraph<N> {
+
+    private final boolean directed;
+
+    @NonNull
+    private final Object[] indexToNode;
+    @NonNull
+    private final Map<N, Integer> nodeToIndex;
+
+    // CSR adjacency: neighbours of node i are targets[offsets[i]] .. targets[offsets[i + 1] - 1]
+    private final int[] outOffsets;
+    private final int[] outTargets;
+    private final int[] inOffsets;
+    private final int[] inTargets;
+
+    private IndexedGraph(boolean directed,
+                         @NonNull Object[] indexToNode,
+                         @NonNull Map<N, Integer> nodeToIndex,
+                         int[] outOffsets,
+                         int[] outTargets,
+                         int[] inOffsets,
+                         int[] inTargets) {
+        this.directed = directed;
+        this.indexToNode = indexToNode;
+        this.nodeToIndex = nodeToIndex;
+        this.outOffsets = outOffsets;
+        this.outTargets = outTargets;
+        this.inOffsets = inOffsets;
+        this.inTargets = inTargets;
+    }
+
+    /**
+     * Takes a snapshot of a given graph.
+     * Nodes are indexed in the iteration order of {@link Graph#getNodes()}.
+     *
+     * @param graph a graph to take a snapshot of
+     * @return the snapshot
+     */
+    @NonNull
+    public static <N> IndexedGraph<N> of(@NonNull Graph<N> graph) {
+        Objects.requireNonNull(graph, "[graph]");
+
+        var nodes = graph.getNodes();
+        var edges = graph.getEdges();
+
+        var indexToNode = nodes.toArray();
+        var nodeToIndex = new HashMap<N, Integer>(Math.max(16, (int) (indexToNode.length / 0.75f) + 1));
+        for (int i = 0; i < indexToNode.length; i++) {
+            @SuppressWarnings("unchecked")
+            var node = (N) indexToNode[i];
+            nodeToIndex.put(node, i);
+        }
+
+        // Flatten edges into pairs of indices once, they are walked twice - to count degrees and to fill rows
+        var directed = graph.isDirected();
+        var sources = new int[edges.size()];
+        var targets = new int[edges.size()];
+        var edgeCount = 0;
+        for (GraphEdge<N> edge : edges) {
+            var u = nodeToIndex.get(edge.getNodeU());
+            var v = nodeToIndex.get(edge.getNodeV());
+            if (u == null || v == null) {
+                // Edge was added concurrently with taking the snapshot
+                continue;
+            }
+
+            sources[edgeCount] = u;
+            targets[edgeCount] = v;
+            edgeCount++;
+        }
+
+        var size = indexToNode.length;
+        if (directed) {
+            var outOffsets = new int[size + 1];
+            var outTargets = new int[edgeCount];
+            fillRows(size, edgeCount, sources, targets, outOffsets, outTargets);
+
+            var inOffsets = new int[size + 1];
+            var inTargets = new int[edgeCount];
+            fillRows(size, edgeCount, targets, sources, inOffsets, inTargets);
+
+            return new IndexedGraph<>(true, indexToNode, nodeToIndex, outOffsets, outTargets, inOffsets, inTargets);
+        }
+
+        // Undirected edge (u, v) is stored in both rows of u and v, a self-loop (u, u) only once
+        var bothSources = Arrays.copyOf(sources, edgeCount * 2);
+        var bothTargets = Arrays.copyOf(targets, edgeCount * 2);
+        var bothCount = edgeCount;
+        for (int i = 0; i < edgeCount; i++) {
+            if (sources[i] != targets[i]) {
+                bothSources[bothCount] = targets[i];
+                bothTargets[bothCount] = sources[i];
+                bothCount++;
+            }
+        }
+
+        var offsets = new int[size + 1];
+        var adjacent = new int[bothCount];
+        fillRows(size, bothCount, bothSources, bothTargets, offsets, adjacent);
+
+        return new IndexedGraph<>(false, indexToNode, nodeToIndex, offsets, adjacent, offsets, adjacent);
+    }
+
+    // Counting sort of (source, target) pairs by source into CSR rows
+    private static void fillRows(int size, int count,
+                                 int[] sources, int[] targets,
+                                 int[] offsets, int[] row) {
+        for (int i = 0; i < count; i++) {
+            offsets[sources[i] + 1]++;
+        }
+
+        for (int i = 0; i < size; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        var cursor = Arrays.copyOf(offsets, size);
+        for (int i = 0; i < count; i++) {
+            row[cursor[sources[i]]++] = targets[i];
+        }
+    }
+
+    /**
+     * @return number of nodes in the snapshot
+     */
+    public int size() {
+        return indexToNode.length;
+    }
+
+    /**
+     * @return {@code true} if the snapshot was taken of a directed graph
+     */
+    public boolean isDirected() {
+        return directed;
+    }
+
+    /**
+     * Returns an index of a given node.
+     *
+     * @param node a node
+     * @return the index or {@code -1} if snapshot does not contain a node
+     */
+    public int indexOf(@NonNull N node) {
+        var index = nodeToIndex.get(node);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns a node by its index.
+     *
+     * @param index an index within {@code [0, size())}
+     * @return the node
+     */
+    @NonNull
+    @SuppressWarnings("unchecked")
+    public N nodeAt(int index) {
+        return (N) indexToNode[index];
+    }
+
+    /**
+     * Creates an edge between nodes with given indices, as the snapshot graph would have it.
+     * The snapshot does not check whether the graph has such an edge.
+     *
+     * @param indexU index of the node u
+     * @param indexV index of the node v
+     * @return the edge
+     */
+    @NonNull
+    public GraphEdge<N> edgeOf(int indexU, int indexV) {
+        return directed ? Edge.ordered(nodeAt(indexU), nodeAt(indexV)) : Edge.unordered(nodeAt(indexU), nodeAt(indexV));
+    }
+
+    /**
+     * @return a number of nodes directly reachable from a node with a given index
+     */
+    public int outDegree(int index) {
+        return outOffsets[index + 1] - outOffsets[index];
+    }
+
+    /**
+     * Returns the {@code k}-th node directly reachable from a node with a given index.
+     *
+     * @param index a node index
+     * @param k     position within {@code [0, outDegree(index))}
+     * @return index of the adjacent node
+     */
+    public int outNeighbour(int index, int k) {
+        return outTargets[outOffsets[index] + k];
+    }
+
+    /**
+     * @return a number of nodes a node with a given index is directly reachable from
+     */
+    public int inDegree(int index) {
+        return inOffsets[index + 1] - inOffsets[index];
+    }
+
+    /**
+     * Returns the {@code k}-th node a node with a given index is directly reachable from.
+     *
+     * @param index a node index
+     * @param k     position within {@code [0, inDegree(index))}
+     * @return index of the adjacent node
+     */
+    public int inNeighbour(int index, int k) {
+        return inTargets[inOffsets[index] + k];
+    }
+
+    /**
+     * Calls {@code action} for every node directly reachable from a node with a given index.
+     */
+    public void forEachOut(int index, @NonNull IntConsumer action) {
+        for (int k = outOffsets[index], end = outOffsets[index + 1]; k < end; k++) {
+            action.accept(outTargets[k]);
+        }
+    }
+
+    /**
+     * Calls {@code action} for every node a node with a given index is directly reachable from.
+     */
+    public void forEachIn(int index, @NonNull IntConsumer action) {
+        for (int k = inOffsets[index], end = inOffsets[index + 1]; k < end; k++) {
+            action.accept(inTargets[k]);
+        }
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "IndexedGraph(" +
+                (isDirected() ? "directed" : "undirected") +
+                "; nodes=" + size() + ", arcs=" + outTargets.length + ')';
+    }
+
+}
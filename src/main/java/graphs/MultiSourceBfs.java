@@ -0,0 +1,310 @@
+package graphs;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.*;
+
+/**
+ * Multi-source breadth-first search (MS-BFS) for batches of path and distance queries.
+ * <p>
+ * Up to 64 traversals - one per distinct source node - are run at once over an {@link IndexedGraph}.
+ * Each node keeps a bitmask of traversals that have seen it and of traversals that visit it on the current level,
+ * so an adjacency list is scanned once per level for all traversals sharing the node instead of once per traversal.
+ * A batch stops as soon as every target of its queries is reached.
+ * <p>
+ * Keeping paths requires a parent per traversal and node, so for large graphs fewer traversals are run at once
+ * when paths are requested.
+ *
+ * @param <N> Vertex/node type
+ * @see Graph#getDistances(List, List)
+ * @see Graph#getPaths(List, List)
+ */
+final class MultiSourceBfs<N> {
+
+    private static final int WIDTH = Long.SIZE;
+
+    // Upper bound for the number of parent entries kept for a batch
+    private static final int PARENTS_LIMIT = 1 << 24;
+
+    @NonNull
+    private final IndexedGraph<N> graph;
+
+    // Sources and targets of queries by node index, -1 if graph does not contain a node
+    private final int[] sources;
+    private final int[] targets;
+
+    private final int[] distances;
+    @Nullable
+    private final List<List<GraphEdge<N>>> paths;
+
+    private final int width;
+
+    // Per node state of a batch. Reused between batches
+    private final long[] seen;
+    private long[] visit;
+    private long[] visitNext;
+    private final long[] targetMask;
+    private final int[] targetSlot;
+    private int[] frontier;
+    private int[] frontierNext;
+    // Kept only when paths are requested, null otherwise
+    private final int[] parents;
+
+    private MultiSourceBfs(@NonNull IndexedGraph<N> graph,
+                           @NonNull List<N> sources,
+                           @NonNull List<N> targets,
+                           boolean withPaths,
+                           int parentsLimit) {
+        Objects.requireNonNull(sources, "[sources]");
+        Objects.requireNonNull(targets, "[targets]");
+        if (sources.size() != targets.size()) {
+            throw new IllegalArgumentException("[sources] and [targets] must be of the same size");
+        }
+
+        this.graph = graph;
+        this.sources = indicesOf(graph, sources);
+        this.targets = indicesOf(graph, targets);
+        this.distances = new int[sources.size()];
+        Arrays.fill(distances, -1);
+        this.paths = withPaths ? new ArrayList<>(Collections.nCopies(sources.size(), Collections.emptyList())) : null;
+
+        var size = graph.size();
+        this.width = withPaths ? Math.max(1, Math.min(WIDTH, parentsLimit / Math.max(1, size))) : WIDTH;
+        this.seen = new long[size];
+        this.visit = new long[size];
+        this.visitNext = new long[size];
+        this.targetMask = new long[size];
+        this.targetSlot = new int[size];
+        Arrays.fill(targetSlot, -1);
+        this.frontier = new int[size];
+        this.frontierNext = new int[size];
+        this.parents = withPaths ? new int[width * size] : null;
+    }
+
+    static <N> int[] distances(@NonNull IndexedGraph<N> graph, @NonNull List<N> sources, @NonNull List<N> targets) {
+        var bfs = new MultiSourceBfs<>(graph, sources, targets, false, 0);
+        bfs.run();
+
+        return bfs.distances;
+    }
+
+    @NonNull
+    static <N> List<List<GraphEdge<N>>> paths(@NonNull IndexedGraph<N> graph,
+                                             @NonNull List<N> sources,
+                                             @NonNull List<N> targets) {
+        return paths(graph, sources, targets, PARENTS_LIMIT);
+    }
+
+    // Visible for testing: a lower limit makes batches of small graphs narrower
+    @NonNull
+    static <N> List<List<GraphEdge<N>>> paths(@NonNull IndexedGraph<N> graph,
+                                             @NonNull List<N> sources,
+                                             @NonNull List<N> targets,
+                                             int parentsLimit) {
+        var bfs = new MultiSourceBfs<>(graph, sources, targets, true, parentsLimit);
+        bfs.run();
+
+        // Always present when the search keeps paths
+        return Objects.requireNonNull(bfs.paths);
+    }
+
+    private static <N> int[] indicesOf(@NonNull IndexedGraph<N> graph, @NonNull List<N> nodes) {
+        var indices = new int[nodes.size()];
+        var i = 0;
+        for (N node : nodes) {
+            indices[i++] = node == null ? -1 : graph.indexOf(node);
+        }
+
+        return indices;
+    }
+
+    private void run() {
+        // Queries ordered by source, packed as (source index, query index)
+        var queries = new long[sources.length];
+        var count = 0;
+        for (int q = 0; q < sources.length; q++) {
+            if (sources[q] >= 0 && targets[q] >= 0) {
+                queries[count++] = ((long) sources[q] << 32) | q;
+            }
+        }
+
+        queries = Arrays.copyOf(queries, count);
+        Arrays.sort(queries);
+
+        // Each batch takes queries of up to [width] distinct sources
+        var from = 0;
+        while (from < count) {
+            var to = from;
+            var bits = 0;
+            while (to < count) {
+                if (to == from || sourceOf(queries[to]) != sourceOf(queries[to - 1])) {
+                    if (bits == width) {
+                        break;
+                    }
+                    bits++;
+                }
+                to++;
+            }
+
+            runBatch(queries, from, to, bits);
+            from = to;
+        }
+    }
+
+    private void runBatch(long[] queries, int from, int to, int bits) {
+        // Visit masks of the next level are always cleared by the previous batch
+        Arrays.fill(seen, 0);
+        Arrays.fill(visit, 0);
+
+        // Bit of each query's source and slots of distinct targets
+        var queryBits = new int[to - from];
+        var batchSources = new int[bits];
+        var targetCount = 0;
+        var pending = 0;
+        for (int i = from, bit = -1; i < to; i++) {
+            if (i == from || sourceOf(queries[i]) != sourceOf(queries[i - 1])) {
+                batchSources[++bit] = sourceOf(queries[i]);
+            }
+            queryBits[i - from] = bit;
+
+            var target = targets[queryOf(queries[i])];
+            if (targetSlot[target] < 0) {
+                targetSlot[target] = targetCount++;
+            }
+
+            var mask = 1L << bit;
+            if ((targetMask[target] & mask) == 0) {
+                targetMask[target] |= mask;
+                pending++;
+            }
+        }
+
+        // Level at which each traversal reached each target
+        var found = new int[bits * targetCount];
+        Arrays.fill(found, -1);
+
+        var frontierSize = 0;
+        for (int bit = 0; bit < bits; bit++) {
+            var source = batchSources[bit];
+            if (visit[source] == 0) {
+                frontier[frontierSize++] = source;
+            }
+            visit[source] |= 1L << bit;
+            seen[source] |= 1L << bit;
+        }
+
+        var level = 0;
+        for (int i = 0; i < frontierSize; i++) {
+            pending -= reach(frontier[i], visit[frontier[i]], level, found, targetCount);
+        }
+
+        while (pending > 0 && frontierSize > 0) {
+            level++;
+            var nextSize = 0;
+            for (int i = 0; i < frontierSize; i++) {
+                var node = frontier[i];
+                var visiting = visit[node];
+                for (int k = 0, degree = graph.outDegree(node); k < degree; k++) {
+                    var neighbour = graph.outNeighbour(node, k);
+                    var discovered = visiting & ~seen[neighbour];
+                    if (discovered == 0) {
+                        continue;
+                    }
+
+                    if (visitNext[neighbour] == 0) {
+                        frontierNext[nextSize++] = neighbour;
+                    }
+                    visitNext[neighbour] |= discovered;
+                    seen[neighbour] |= discovered;
+                    if (parents != null) {
+                        keepParent(node, neighbour, discovered);
+                    }
+                }
+
+                visit[node] = 0;
+            }
+
+            for (int i = 0; i < nextSize; i++) {
+                pending -= reach(frontierNext[i], visitNext[frontierNext[i]], level, found, targetCount);
+            }
+
+            var visitSwap = visit;
+            visit = visitNext;
+            visitNext = visitSwap;
+
+            var frontierSwap = frontier;
+            frontier = frontierNext;
+            frontierNext = frontierSwap;
+            frontierSize = nextSize;
+        }
+
+        for (int i = from; i < to; i++) {
+            var query = queryOf(queries[i]);
+            var bit = queryBits[i - from];
+            var target = targets[query];
+            distances[query] = found[bit * targetCount + targetSlot[target]];
+            if (paths != null && distances[query] > 0) {
+                paths.set(query, backtrace(batchSources[bit], target, bit));
+            }
+        }
+
+        // Clean target state for the next batch
+        for (int i = from; i < to; i++) {
+            var target = targets[queryOf(queries[i])];
+            targetSlot[target] = -1;
+            targetMask[target] = 0;
+        }
+    }
+
+    // Records targets reached by traversals at the given level. Returns the number of newly answered pairs
+    private int reach(int node, long reached, int level, int[] found, int targetCount) {
+        var hits = reached & targetMask[node];
+        if (hits == 0) {
+            return 0;
+        }
+
+        targetMask[node] &= ~hits;
+        var slot = targetSlot[node];
+        var answered = Long.bitCount(hits);
+        while (hits != 0) {
+            var bit = Long.numberOfTrailingZeros(hits);
+            found[bit * targetCount + slot] = level;
+            hits &= hits - 1;
+        }
+
+        return answered;
+    }
+
+    private void keepParent(int parent, int node, long discovered) {
+        var size = graph.size();
+        while (discovered != 0) {
+            var bit = Long.numberOfTrailingZeros(discovered);
+            parents[bit * size + node] = parent;
+            discovered &= discovered - 1;
+        }
+    }
+
+    @NonNull
+    private List<GraphEdge<N>> backtrace(int source, int target, int bit) {
+        var offset = bit * graph.size();
+        var path = new LinkedList<GraphEdge<N>>();
+        var node = target;
+        while (node != source) {
+            var parent = parents[offset + node];
+            path.addFirst(graph.edgeOf(parent, node));
+            node = parent;
+        }
+
+        return path;
+    }
+
+    private static int sourceOf(long query) {
+        return (int) (query >>> 32);
+    }
+
+    private static int queryOf(long query) {
+        return (int) query;
+    }
+
+}
@@ -34,6 +34,23 @@ public interface MutableGraph<N> extends Graph<N> {
      */
     boolean addEdge(@NonNull N nodeU, @NonNull N nodeV);
 
+    /**
+     * Removes an edge between {@code nodeU} and {@code nodeV}. Nodes themselves are kept.
+     *
+     * @param nodeU the node u
+     * @param nodeV the node v
+     * @return {@code true} if graph had such an edge
+     */
+    boolean removeEdge(@NonNull N nodeU, @NonNull N nodeV);
+
+    /**
+     * Removes a vertex/node from the graph along with all edges of it.
+     *
+     * @param node a node to remove
+     * @return {@code true} if graph had such a node
+     */
+    boolean removeVertex(@NonNull N node);
+
     /**
      * Connects a node {@code nodeU} with multiple nodes {@code withNodesV}
      * and returns a boolean array that represents each successful result associated
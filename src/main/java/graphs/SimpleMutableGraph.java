@@ -12,8 +12,14 @@ import static java.util.Objects.requireNonNull;
  * <p>
  * Maintains a different sets of structures - one for each node and its' connections, other a flat struct for edges
  * and the other is unmodifiable view of edges for a safe traversal and publishing.
+ * Edge lookups by a pair of nodes go through connections, so no edge instance is created to probe the edges.
  * <p>
  * This graph does not support weighted/valued edges.
+ * <p>
+ * Removals are applied in place: removing an edge costs as much as adding it,
+ * removing a vertex is proportional to the number of its edges.
+ * Nodes and edges are kept in {@link CompactingHashMap}s, which shrink after mass removals, so a graph does not keep
+ * the memory of its peak size. Connections of a node are kept in a plain map, which is small for most nodes.
  *
  * <p>
  * Calculating the path between nodes is done via BFS and back-tracing.
@@ -30,9 +36,9 @@ public class SimpleMutableGraph<N> implements MutableGraph<N> {
 
     // A view of nodes with their connection information
     @NonNull
-    private final Map<N, GraphConnection<N>> nodes = new HashMap<>();
+    private final Map<N, GraphConnection<N>> nodes = new CompactingHashMap<>();
     @NonNull
-    private final Set<GraphEdge<N>> edges = new HashSet<>();
+    private final Set<GraphEdge<N>> edges = Collections.newSetFromMap(new CompactingHashMap<>());
 
     @NonNull
     private final Set<GraphEdge<N>> edgesView = Collections.unmodifiableSet(edges);
@@ -50,33 +56,69 @@ public class SimpleMutableGraph<N> implements MutableGraph<N> {
             return false;
         }
 
-        return nodes.put(node, GraphConnections.of(node)) == null;
+        return nodes.put(node, GraphConnections.of(node, directed)) == null;
     }
 
     @Override
     public boolean addEdge(@NonNull N nodeU, @NonNull N nodeV) {
         requireNonNull(nodeU, "[nodeU]");
-        requireNonNull(nodeU, "[nodeV]");
+        requireNonNull(nodeV, "[nodeV]");
 
         if (addVertexIfAbsent(nodeU) || addVertexIfAbsent(nodeV)) {
             return false;
         }
 
-        var edge = edgeFrom(nodeU, nodeV);
-        if (edges.contains(edge)) {
+        // Check adjacency first, so that an edge instance is created only to be stored
+        if (nodes.get(nodeU).hasEdgeTo(nodeV)) {
             return false;
         }
 
+        var edge = edgeFrom(nodeU, nodeV);
         var edgeAdded = edges.add(edge);
         // Add connections
+        return edgeAdded
+                && nodes.get(nodeU).newConnection(edge)
+                && nodes.get(nodeV).newConnection(edge);
+    }
+
+    @Override
+    public boolean removeEdge(@NonNull N nodeU, @NonNull N nodeV) {
+        requireNonNull(nodeU, "[nodeU]");
+        requireNonNull(nodeV, "[nodeV]");
+
+        // Take the stored edge, so that it is looked up once and no edge instance is created
+        var connection = nodes.get(nodeU);
+        var edge = connection == null ? null : connection.getEdgeTo(nodeV).orElse(null);
+        if (edge == null) {
+            return false;
+        }
+
+        edges.remove(edge);
+        connection.removeConnection(edge);
+        nodes.get(nodeV).removeConnection(edge);
+        return true;
+    }
+
+    @Override
+    public boolean removeVertex(@NonNull N node) {
+        requireNonNull(node, "[node]");
+
+        var connection = nodes.remove(node);
+        if (connection == null) {
+            return false;
+        }
+
+        for (GraphEdge<N> edge : connection.getAdjacentEdges()) {
+            disconnect(edge);
+        }
+
         if (directed) {
-            var ordered = (OrderedEdge<N>) edge;
-            return edgeAdded && nodes.get(ordered.getSource()).newConnection(edge);
-        } else {
-            return edgeAdded
-                    && nodes.get(nodeU).newConnection(edge)
-                    && nodes.get(nodeV).newConnection(edge);
+            for (GraphEdge<N> edge : connection.getIncomingEdges()) {
+                disconnect(edge);
+            }
         }
+
+        return true;
     }
 
     @Override
@@ -94,6 +136,12 @@ public class SimpleMutableGraph<N> implements MutableGraph<N> {
 
     }
 
+    @Override
+    public boolean hasEdge(@NonNull N nodeU, @NonNull N nodeV) {
+        var connection = nodes.get(nodeU);
+        return connection != null && connection.hasEdgeTo(nodeV);
+    }
+
     @Override
     public @NonNull Set<N> getNodes() {
         return nodes.keySet();
@@ -122,6 +170,20 @@ public class SimpleMutableGraph<N> implements MutableGraph<N> {
         return isDirected() ? Edge.ordered(nodeU, nodeV) : Edge.unordered(nodeU, nodeV);
     }
 
+    // Drops an edge of a removed node from the other end, the removed node has no connection any more
+    private void disconnect(@NonNull GraphEdge<N> edge) {
+        edges.remove(edge);
+        var connectionU = nodes.get(edge.getNodeU());
+        if (connectionU != null) {
+            connectionU.removeConnection(edge);
+        }
+
+        var connectionV = nodes.get(edge.getNodeV());
+        if (connectionV != null) {
+            connectionV.removeConnection(edge);
+        }
+    }
+
     // Returns false if no error. Returns true on failure
     private boolean addVertexIfAbsent(@NonNull N node) {
         if (!nodes.containsKey(node)) {
@@ -133,8 +195,7 @@ public class SimpleMutableGraph<N> implements MutableGraph<N> {
 
     @NonNull
     private Optional<GraphEdge<N>> dumbStraightContains(@NonNull N source, @NonNull N target) {
-        var edge = edgeFrom(source, target);
-        return edges.contains(edge) ? Optional.of(edge) : Optional.empty();
+        return nodes.get(source).getEdgeTo(target);
     }
 
     // Classic BFS
@@ -0,0 +1,200 @@
+package graphs.analytics;
+
+import graphs.IndexedGraph;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Connected components of a graph.
+ * <p>
+ * Components are found by Afforest - a parallel union-find over a label array. At first a few neighbours of each
+ * node are linked, which is enough for the largest component to emerge. Then the rest of edges are linked only for
+ * nodes outside of that component, so most of the edges of a typical graph are never touched.
+ * <p>
+ * For a directed graph edge directions are ignored.
+ *
+ * @param <N> Vertex/node type
+ * @see GraphAnalytics#connectedComponents()
+ */
+public final class ConnectedComponents<N> {
+
+    // Number of neighbours linked for each node before the largest component is guessed
+    private static final int NEIGHBOUR_ROUNDS = 2;
+
+    // Number of nodes sampled to guess the largest component
+    private static final int SAMPLES = 1024;
+
+    @NonNull
+    private final IndexedGraph<N> graph;
+
+    // Component by node index, components are numbered from 0
+    private final int[] components;
+
+    // Number of nodes by component
+    private final int[] sizes;
+
+    private ConnectedComponents(@NonNull IndexedGraph<N> graph, int[] components, int[] sizes) {
+        this.graph = graph;
+        this.components = components;
+        this.sizes = sizes;
+    }
+
+    @NonNull
+    static <N> ConnectedComponents<N> compute(@NonNull IndexedGraph<N> graph) {
+        var size = graph.size();
+        var labels = new AtomicIntegerArray(IntStream.range(0, size).toArray());
+
+        for (int r = 0; r < NEIGHBOUR_ROUNDS; r++) {
+            var round = r;
+            IntStream.range(0, size).parallel().forEach(u -> {
+                if (round < graph.outDegree(u)) {
+                    link(labels, u, graph.outNeighbour(u, round));
+                }
+            });
+            compress(labels, size);
+        }
+
+        var largest = sampleFrequentLabel(labels, size);
+        IntStream.range(0, size).parallel().forEach(u -> {
+            if (labels.get(u) == largest) {
+                return;
+            }
+
+            for (int k = NEIGHBOUR_ROUNDS, degree = graph.outDegree(u); k < degree; k++) {
+                link(labels, u, graph.outNeighbour(u, k));
+            }
+
+            // Edges into the largest component are only seen from their targets
+            if (graph.isDirected()) {
+                for (int k = 0, degree = graph.inDegree(u); k < degree; k++) {
+                    link(labels, u, graph.inNeighbour(u, k));
+                }
+            }
+        });
+        compress(labels, size);
+
+        return normalize(graph, labels);
+    }
+
+    // Hooks the higher root under the lower one, retrying when another thread changes either root
+    private static void link(@NonNull AtomicIntegerArray labels, int u, int v) {
+        var p1 = labels.get(u);
+        var p2 = labels.get(v);
+        while (p1 != p2) {
+            var high = Math.max(p1, p2);
+            var low = Math.min(p1, p2);
+            var highParent = labels.get(high);
+            if (highParent == low || (highParent == high && labels.compareAndSet(high, high, low))) {
+                return;
+            }
+
+            p1 = labels.get(labels.get(high));
+            p2 = labels.get(low);
+        }
+    }
+
+    // Points every node directly at its root
+    private static void compress(@NonNull AtomicIntegerArray labels, int size) {
+        IntStream.range(0, size).parallel().forEach(n -> {
+            while (labels.get(n) != labels.get(labels.get(n))) {
+                labels.set(n, labels.get(labels.get(n)));
+            }
+        });
+    }
+
+    private static int sampleFrequentLabel(@NonNull AtomicIntegerArray labels, int size) {
+        if (size == 0) {
+            return -1;
+        }
+
+        var random = new SplittableRandom();
+        var counts = new HashMap<Integer, Integer>();
+        for (int i = 0; i < SAMPLES; i++) {
+            counts.merge(labels.get(random.nextInt(size)), 1, Integer::sum);
+        }
+
+        return Collections.max(counts.entrySet(), Map.Entry.comparingByValue()).getKey();
+    }
+
+    // Renumbers roots into a dense range of components
+    @NonNull
+    private static <N> ConnectedComponents<N> normalize(@NonNull IndexedGraph<N> graph,
+                                                        @NonNull AtomicIntegerArray labels) {
+        var size = graph.size();
+        var rootToComponent = new int[size];
+        var count = 0;
+        for (int n = 0; n < size; n++) {
+            if (labels.get(n) == n) {
+                rootToComponent[n] = count++;
+            }
+        }
+
+        var components = new int[size];
+        var sizes = new int[count];
+        for (int n = 0; n < size; n++) {
+            components[n] = rootToComponent[labels.get(n)];
+            sizes[components[n]]++;
+        }
+
+        return new ConnectedComponents<>(graph, components, sizes);
+    }
+
+    /**
+     * @return number of components
+     */
+    public int getCount() {
+        return sizes.length;
+    }
+
+    /**
+     * @param node a node
+     * @return component of the node within {@code [0, getCount())} or {@code -1} if graph does not contain it
+     */
+    public int componentOf(@NonNull N node) {
+        var index = graph.indexOf(node);
+        return index < 0 ? -1 : components[index];
+    }
+
+    /**
+     * @return {@code true} if both nodes belong to the graph and to the same component
+     */
+    public boolean isConnected(@NonNull N nodeU, @NonNull N nodeV) {
+        var component = componentOf(nodeU);
+        return component >= 0 && component == componentOf(nodeV);
+    }
+
+    /**
+     * @param component a component within {@code [0, getCount())}
+     * @return number of nodes in the component
+     */
+    public int sizeOf(int component) {
+        return sizes[component];
+    }
+
+    /**
+     * @return nodes of each component, indexed by component
+     */
+    @NonNull
+    public List<Set<N>> asSets() {
+        var sets = new ArrayList<Set<N>>(sizes.length);
+        for (int size : sizes) {
+            sets.add(new HashSet<>(Math.max(16, (int) (size / 0.75f) + 1)));
+        }
+
+        for (int n = 0; n < components.length; n++) {
+            sets.get(components[n]).add(graph.nodeAt(n));
+        }
+
+        return sets;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "Components(count=" + getCount() + ')';
+    }
+
+}
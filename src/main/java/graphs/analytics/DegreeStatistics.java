@@ -0,0 +1,104 @@
+package graphs.analytics;
+
+import graphs.IndexedGraph;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Degrees of graph nodes with their distribution.
+ *
+ * @param <N> Vertex/node type
+ * @see GraphAnalytics#outDegrees()
+ * @see GraphAnalytics#inDegrees()
+ */
+public final class DegreeStatistics<N> {
+
+    @NonNull
+    private final IndexedGraph<N> graph;
+
+    // Degree by node index
+    private final int[] degrees;
+
+    // Number of nodes by degree
+    private final long[] histogram;
+
+    private final int min;
+    private final int max;
+    private final double mean;
+
+    private DegreeStatistics(@NonNull IndexedGraph<N> graph, int[] degrees, long[] histogram,
+                             int min, int max, double mean) {
+        this.graph = graph;
+        this.degrees = degrees;
+        this.histogram = histogram;
+        this.min = min;
+        this.max = max;
+        this.mean = mean;
+    }
+
+    @NonNull
+    static <N> DegreeStatistics<N> compute(@NonNull IndexedGraph<N> graph, @NonNull IntUnaryOperator degree) {
+        var degrees = IntStream.range(0, graph.size()).parallel().map(degree).toArray();
+        if (degrees.length == 0) {
+            return new DegreeStatistics<>(graph, degrees, new long[0], 0, 0, 0);
+        }
+
+        var summary = Arrays.stream(degrees).parallel().summaryStatistics();
+        // Count runs of sorted degrees, so that a single histogram is allocated however large a hub is
+        var sorted = degrees.clone();
+        Arrays.parallelSort(sorted);
+        var histogram = new long[summary.getMax() + 1];
+        for (int i = 0; i < sorted.length; ) {
+            var d = sorted[i];
+            var start = i;
+            while (i < sorted.length && sorted[i] == d) {
+                i++;
+            }
+
+            histogram[d] = i - start;
+        }
+
+        return new DegreeStatistics<>(graph, degrees, histogram, summary.getMin(), summary.getMax(), summary.getAverage());
+    }
+
+    /**
+     * @param node a node
+     * @return degree of the node or {@code -1} if graph does not contain it
+     */
+    public int degreeOf(@NonNull N node) {
+        var index = graph.indexOf(node);
+        return index < 0 ? -1 : degrees[index];
+    }
+
+    /**
+     * Returns the degree distribution, where the value at index {@code d} is the number of nodes of degree {@code d}.
+     * The length of the array is {@code getMax() + 1}, or zero for an empty graph.
+     *
+     * @return the histogram
+     */
+    public long[] getHistogram() {
+        return histogram.clone();
+    }
+
+    public int getMin() {
+        return min;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "Degrees(min=" + min + ", max=" + max + ", mean=" + mean + ')';
+    }
+
+}
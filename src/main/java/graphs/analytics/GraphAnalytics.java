@@ -0,0 +1,134 @@
+package graphs.analytics;
+
+import graphs.Graph;
+import graphs.IndexedGraph;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+/**
+ * An entry point for graph analytics.
+ * <p>
+ * Takes an {@link IndexedGraph} snapshot of a graph once and runs every analysis over it, so a graph is not
+ * walked again for each one of them. All computations work on primitive arrays and are run as parallel streams
+ * within a given {@link ForkJoinPool} - by default within the common pool, i.e. on all cores.
+ * <p>
+ * Results do not track further changes of the graph, take a new instance for that.
+ * <p>
+ * This class is thread-safe as long as the graph is not mutated while the snapshot is taken.
+ *
+ * @param <N> Vertex/node type
+ */
+public class GraphAnalytics<N> {
+
+    public static final double DEFAULT_DAMPING = 0.85;
+    public static final double DEFAULT_TOLERANCE = 1e-6;
+    public static final int DEFAULT_MAX_ITERATIONS = 100;
+
+    @NonNull
+    private final IndexedGraph<N> graph;
+
+    @NonNull
+    private final ForkJoinPool pool;
+
+    private GraphAnalytics(@NonNull IndexedGraph<N> graph, @NonNull ForkJoinPool pool) {
+        this.graph = graph;
+        this.pool = pool;
+    }
+
+    @NonNull
+    public static <N> GraphAnalytics<N> of(@NonNull Graph<N> graph) {
+        return of(graph, ForkJoinPool.commonPool());
+    }
+
+    @NonNull
+    public static <N> GraphAnalytics<N> of(@NonNull Graph<N> graph, @NonNull ForkJoinPool pool) {
+        Objects.requireNonNull(pool, "[pool]");
+
+        return new GraphAnalytics<>(IndexedGraph.of(graph), pool);
+    }
+
+    /**
+     * Degrees of nodes by outgoing edges. For an undirected graph this is the plain degree of a node.
+     *
+     * @return degree statistics
+     */
+    @NonNull
+    public DegreeStatistics<N> outDegrees() {
+        return compute(() -> DegreeStatistics.compute(graph, graph::outDegree));
+    }
+
+    /**
+     * Degrees of nodes by incoming edges. For an undirected graph this is the same as {@link #outDegrees()}.
+     *
+     * @return degree statistics
+     */
+    @NonNull
+    public DegreeStatistics<N> inDegrees() {
+        return compute(() -> DegreeStatistics.compute(graph, graph::inDegree));
+    }
+
+    /**
+     * Finds connected components. For a directed graph edge directions are ignored,
+     * meaning that weakly connected components are found.
+     *
+     * @return the components
+     */
+    @NonNull
+    public ConnectedComponents<N> connectedComponents() {
+        return compute(() -> ConnectedComponents.compute(graph));
+    }
+
+    /**
+     * Calculates PageRank with {@link #DEFAULT_DAMPING}, {@link #DEFAULT_TOLERANCE}
+     * and {@link #DEFAULT_MAX_ITERATIONS}.
+     *
+     * @return ranks of nodes
+     */
+    @NonNull
+    public PageRank<N> pageRank() {
+        return pageRank(DEFAULT_DAMPING, DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS);
+    }
+
+    /**
+     * Calculates PageRank. Iterations stop either when the sum of rank changes is less than {@code tolerance}
+     * or when {@code maxIterations} is reached.
+     *
+     * @param damping       probability of following an edge, within {@code (0, 1)}
+     * @param tolerance     convergence threshold
+     * @param maxIterations maximum number of iterations
+     * @return ranks of nodes
+     */
+    @NonNull
+    public PageRank<N> pageRank(double damping, double tolerance, int maxIterations) {
+        if (!(damping > 0 && damping < 1)) {
+            throw new IllegalArgumentException("[damping] must be within (0, 1)");
+        }
+
+        if (!(tolerance > 0)) {
+            throw new IllegalArgumentException("[tolerance] must be positive");
+        }
+
+        if (maxIterations <= 0) {
+            throw new IllegalArgumentException("[maxIterations] must be positive");
+        }
+
+        return compute(() -> PageRank.compute(graph, damping, tolerance, maxIterations));
+    }
+
+    @NonNull
+    public IndexedGraph<N> getGraph() {
+        return graph;
+    }
+
+    // Parallel streams started within a fork-join task are run by the pool of that task
+    @NonNull
+    private <R> R compute(@NonNull Supplier<R> task) {
+        Callable<R> callable = task::get;
+        return pool.submit(callable).join();
+    }
+
+}
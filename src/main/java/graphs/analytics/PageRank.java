@@ -0,0 +1,125 @@
+package graphs.analytics;
+
+import graphs.IndexedGraph;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * PageRank of graph nodes.
+ * <p>
+ * Ranks are calculated by power iteration in a pull manner: each node sums contributions of nodes linking to it,
+ * so every node is written by a single thread and no synchronization is needed. Rank of nodes without outgoing
+ * edges is spread evenly across all nodes, so ranks always sum up to one.
+ * <p>
+ * In an undirected graph each edge links both ways.
+ *
+ * @param <N> Vertex/node type
+ * @see GraphAnalytics#pageRank()
+ */
+public final class PageRank<N> {
+
+    @NonNull
+    private final IndexedGraph<N> graph;
+
+    // Rank by node index
+    private final double[] ranks;
+
+    private final int iterations;
+    private final boolean converged;
+
+    private PageRank(@NonNull IndexedGraph<N> graph, double[] ranks, int iterations, boolean converged) {
+        this.graph = graph;
+        this.ranks = ranks;
+        this.iterations = iterations;
+        this.converged = converged;
+    }
+
+    @NonNull
+    static <N> PageRank<N> compute(@NonNull IndexedGraph<N> graph, double damping, double tolerance,
+                                   int maxIterations) {
+        var size = graph.size();
+        if (size == 0) {
+            return new PageRank<>(graph, new double[0], 0, true);
+        }
+
+        var ranks = new double[size];
+        var next = new double[size];
+        var contributions = new double[size];
+        Arrays.fill(ranks, 1.0 / size);
+
+        var iterations = 0;
+        var converged = false;
+        while (!converged && iterations < maxIterations) {
+            var current = ranks;
+            var updated = next;
+
+            var dangling = IntStream.range(0, size).parallel().mapToDouble(u -> {
+                var degree = graph.outDegree(u);
+                contributions[u] = degree == 0 ? 0 : current[u] / degree;
+                return degree == 0 ? current[u] : 0;
+            }).sum();
+
+            var base = (1 - damping + damping * dangling) / size;
+            var error = IntStream.range(0, size).parallel().mapToDouble(v -> {
+                var sum = 0.0;
+                for (int k = 0, degree = graph.inDegree(v); k < degree; k++) {
+                    sum += contributions[graph.inNeighbour(v, k)];
+                }
+
+                updated[v] = base + damping * sum;
+                return Math.abs(updated[v] - current[v]);
+            }).sum();
+
+            ranks = updated;
+            next = current;
+            iterations++;
+            converged = error < tolerance;
+        }
+
+        return new PageRank<>(graph, ranks, iterations, converged);
+    }
+
+    /**
+     * @param node a node
+     * @return rank of the node or {@code 0} if graph does not contain it
+     */
+    public double rankOf(@NonNull N node) {
+        var index = graph.indexOf(node);
+        return index < 0 ? 0 : ranks[index];
+    }
+
+    /**
+     * @return number of iterations done
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * @return {@code false} if iterations were stopped by the limit rather than by the tolerance
+     */
+    public boolean isConverged() {
+        return converged;
+    }
+
+    @NonNull
+    public Map<N, Double> asMap() {
+        var map = new HashMap<N, Double>(Math.max(16, (int) (ranks.length / 0.75f) + 1));
+        for (int n = 0; n < ranks.length; n++) {
+            map.put(graph.nodeAt(n), ranks[n]);
+        }
+
+        return map;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "PageRank(iterations=" + iterations + ", converged=" + converged + ')';
+    }
+
+}
@@ -17,6 +17,8 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  * Any mutation operations are allowed only when there are no threads reading or writing.
  * <p>
  * This is a pretty straight-forward solution to thread-safety.
+ * Note that {@link #getNodes()} and {@link #getEdges()} return live views of the delegate, which must not be
+ * iterated while another thread mutates the graph. See {@link StampedLockSynchronizedGraph} for snapshot views.
  *
  * @param <N> Graph vertex/node type
  */
@@ -53,6 +55,26 @@ public class ReadWriteSynchronizedGraph<N> implements MutableGraph<N> {
         }
     }
 
+    @Override
+    public boolean removeEdge(@NonNull N nodeU, @NonNull N nodeV) {
+        readWriteLock.writeLock().lock();
+        try {
+            return delegate.removeEdge(nodeU, nodeV);
+        } finally {
+            readWriteLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean removeVertex(@NonNull N node) {
+        readWriteLock.writeLock().lock();
+        try {
+            return delegate.removeVertex(node);
+        } finally {
+            readWriteLock.writeLock().unlock();
+        }
+    }
+
     @Override
     public boolean[] connect(@NonNull N nodeU, @NonNull N[] withNodesV) {
         readWriteLock.writeLock().lock();
@@ -73,6 +95,36 @@ public class ReadWriteSynchronizedGraph<N> implements MutableGraph<N> {
         }
     }
 
+    @Override
+    public boolean hasEdge(@NonNull N nodeU, @NonNull N nodeV) {
+        readWriteLock.readLock().lock();
+        try {
+            return delegate.hasEdge(nodeU, nodeV);
+        } finally {
+            readWriteLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int[] getDistances(@NonNull List<N> sources, @NonNull List<N> targets) {
+        readWriteLock.readLock().lock();
+        try {
+            return delegate.getDistances(sources, targets);
+        } finally {
+            readWriteLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public @NonNull List<List<GraphEdge<N>>> getPaths(@NonNull List<N> sources, @NonNull List<N> targets) {
+        readWriteLock.readLock().lock();
+        try {
+            return delegate.getPaths(sources, targets);
+        } finally {
+            readWriteLock.readLock().unlock();
+        }
+    }
+
     @Override
     public @NonNull Set<N> getNodes() {
         readWriteLock.readLock().lock();
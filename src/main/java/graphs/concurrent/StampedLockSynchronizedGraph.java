@@ -0,0 +1,192 @@
+package graphs.concurrent;
+
+import graphs.GraphEdge;
+import graphs.MutableGraph;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A synchronized delegate graph implementation built on {@link StampedLock}.
+ * Delegates all graph functionality to a specified backed graph.
+ * <p>
+ * Unlike {@link ReadWriteSynchronizedGraph} nodes and edges are published as immutable snapshots, which are safe
+ * to iterate while the graph is mutated. A snapshot is copied once under the read lock and then shared by all
+ * readers until the next mutation, so in a read-mostly workload {@link #getNodes()} and
+ * {@link #getEdges()} are served by an optimistic read only - no lock state is written and readers do not
+ * contend with each other. After a mutation the snapshot is copied by a single reader, the others wait for it.
+ * <p>
+ * Traversal operations, such as {@link #getPath(N, N)}, take the read lock.
+ * Mutation operations take the write lock. The lock is not reentrant and not fair.
+ *
+ * @param <N> Graph vertex/node type
+ */
+public class StampedLockSynchronizedGraph<N> implements MutableGraph<N> {
+
+    @NonNull
+    private final MutableGraph<N> delegate;
+
+    @NonNull
+    private final StampedLock lock = new StampedLock();
+
+    // Snapshots of the delegate. Reset on mutation, lazily copied on read
+    @Nullable
+    private volatile Set<N> nodesSnapshot;
+    @Nullable
+    private volatile Set<GraphEdge<N>> edgesSnapshot;
+
+    // Guard copying of snapshots, so that each version is copied once
+    @NonNull
+    private final Object nodesCopying = new Object();
+    @NonNull
+    private final Object edgesCopying = new Object();
+
+    public StampedLockSynchronizedGraph(@NonNull MutableGraph<N> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean addVertex(@NonNull N node) {
+        return write(() -> delegate.addVertex(node));
+    }
+
+    @Override
+    public boolean addEdge(@NonNull N nodeU, @NonNull N nodeV) {
+        return write(() -> delegate.addEdge(nodeU, nodeV));
+    }
+
+    @Override
+    public boolean removeEdge(@NonNull N nodeU, @NonNull N nodeV) {
+        return write(() -> delegate.removeEdge(nodeU, nodeV));
+    }
+
+    @Override
+    public boolean removeVertex(@NonNull N node) {
+        return write(() -> delegate.removeVertex(node));
+    }
+
+    @Override
+    public boolean[] connect(@NonNull N nodeU, @NonNull N[] withNodesV) {
+        var stamp = lock.writeLock();
+        try {
+            var connections = delegate.connect(nodeU, withNodesV);
+            invalidateSnapshots();
+            return connections;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public @NonNull List<GraphEdge<N>> getPath(@NonNull N source, @NonNull N target) {
+        return read(() -> delegate.getPath(source, target));
+    }
+
+    @Override
+    public boolean hasEdge(@NonNull N nodeU, @NonNull N nodeV) {
+        return read(() -> delegate.hasEdge(nodeU, nodeV));
+    }
+
+    @Override
+    public int[] getDistances(@NonNull List<N> sources, @NonNull List<N> targets) {
+        return read(() -> delegate.getDistances(sources, targets));
+    }
+
+    @Override
+    public @NonNull List<List<GraphEdge<N>>> getPaths(@NonNull List<N> sources, @NonNull List<N> targets) {
+        return read(() -> delegate.getPaths(sources, targets));
+    }
+
+    /**
+     * @return an immutable snapshot of nodes
+     */
+    @Override
+    public @NonNull Set<N> getNodes() {
+        var stamp = lock.tryOptimisticRead();
+        var snapshot = nodesSnapshot;
+        if (snapshot != null && lock.validate(stamp)) {
+            return snapshot;
+        }
+
+        // One reader copies, the others wait for its snapshot instead of copying the same version again
+        synchronized (nodesCopying) {
+            return read(() -> {
+                var nodes = nodesSnapshot;
+                if (nodes == null) {
+                    nodes = Set.copyOf(delegate.getNodes());
+                    nodesSnapshot = nodes;
+                }
+
+                return nodes;
+            });
+        }
+    }
+
+    /**
+     * @return an immutable snapshot of edges
+     */
+    @Override
+    public @NonNull Set<GraphEdge<N>> getEdges() {
+        var stamp = lock.tryOptimisticRead();
+        var snapshot = edgesSnapshot;
+        if (snapshot != null && lock.validate(stamp)) {
+            return snapshot;
+        }
+
+        synchronized (edgesCopying) {
+            return read(() -> {
+                var edges = edgesSnapshot;
+                if (edges == null) {
+                    edges = Set.copyOf(delegate.getEdges());
+                    edgesSnapshot = edges;
+                }
+
+                return edges;
+            });
+        }
+    }
+
+    @Override
+    public boolean isDirected() {
+        return delegate.isDirected();
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return read(delegate::toString);
+    }
+
+    private <R> R read(@NonNull Supplier<R> reading) {
+        var stamp = lock.readLock();
+        try {
+            return reading.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private boolean write(@NonNull BooleanSupplier mutation) {
+        var stamp = lock.writeLock();
+        try {
+            var changed = mutation.getAsBoolean();
+            // A delegate may report duplicates as unchanged while still modifying itself
+            invalidateSnapshots();
+            return changed;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // Must be called under the write lock
+    private void invalidateSnapshots() {
+        nodesSnapshot = null;
+        edgesSnapshot = null;
+    }
+
+}
@@ -0,0 +1,524 @@
+package graphs.landmarks;
+
+import graphs.Graph;
+import graphs.GraphEdge;
+import graphs.IndexedGraph;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * A landmark-based distance oracle over a snapshot of a {@link Graph}.
+ * <p>
+ * Keeps BFS distances from (and, for a directed graph, to) a few selected landmark nodes in primitive arrays.
+ * By the triangle inequality these give both bounds on a distance between any two nodes
+ * in {@code O(#landmarks)}: {@link #lowerBound(N, N)} and {@link #upperBound(N, N)}.
+ * <p>
+ * The lower bound is an admissible and consistent heuristic, so {@link #getPath(N, N)} runs an A* search guided by
+ * it (aka ALT), which finds a shortest path as a BFS does while exploring far fewer nodes.
+ * <p>
+ * The index is built over an {@link IndexedGraph} snapshot and does not track further changes of the graph:
+ * bounds of an outdated index may be wrong, so it must be rebuilt after the graph is mutated.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @param <N> Vertex/node type
+ */
+public final class LandmarkIndex<N> {
+
+    private static final int MAGIC = 0x4C4D4958;
+    private static final int VERSION = 1;
+
+    // Distance to a node that can not be reached
+    private static final int UNREACHABLE = -1;
+
+    @NonNull
+    private final IndexedGraph<N> graph;
+
+    @NonNull
+    private final List<N> landmarks;
+
+    // Distances from landmark l to node n are at [l * size + n]
+    private final int[] fromLandmarks;
+
+    // Distances from node n to landmark l are at [l * size + n]. Same as [fromLandmarks] for an undirected graph
+    private final int[] toLandmarks;
+
+    // States of finished searches, at most one per processor is kept for reuse
+    @NonNull
+    private final Queue<Search> searches = new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+
+    private LandmarkIndex(@NonNull IndexedGraph<N> graph,
+                          @NonNull List<N> landmarks,
+                          int[] fromLandmarks,
+                          int[] toLandmarks) {
+        this.graph = graph;
+        this.landmarks = landmarks;
+        this.fromLandmarks = fromLandmarks;
+        this.toLandmarks = toLandmarks;
+    }
+
+    /**
+     * Builds an index of a given graph. Traversals from landmarks are run in parallel.
+     *
+     * @param graph     a graph
+     * @param landmarks number of landmarks, at most the number of nodes are taken
+     * @param selection landmark selection strategy
+     * @return the index
+     * @throws IllegalArgumentException if distances of all landmarks to all nodes do not fit an array
+     */
+    @NonNull
+    public static <N> LandmarkIndex<N> build(@NonNull Graph<N> graph, int landmarks,
+                                             @NonNull LandmarkSelection selection) {
+        Objects.requireNonNull(selection, "[selection]");
+        if (landmarks <= 0) {
+            throw new IllegalArgumentException("[landmarks] must be positive");
+        }
+
+        var indexed = IndexedGraph.of(graph);
+        var size = indexed.size();
+        var selected = selection.select(indexed, Math.min(landmarks, size), new SplittableRandom());
+
+        var fromLandmarks = new int[tableSize(selected.length, size)];
+        IntStream.range(0, selected.length).parallel()
+                .forEach(l -> traverse(indexed, selected[l], false, fromLandmarks, l * size));
+
+        var toLandmarks = fromLandmarks;
+        if (indexed.isDirected()) {
+            var reversed = new int[fromLandmarks.length];
+            IntStream.range(0, selected.length).parallel()
+                    .forEach(l -> traverse(indexed, selected[l], true, reversed, l * size));
+            toLandmarks = reversed;
+        }
+
+        var nodes = new ArrayList<N>(selected.length);
+        for (int landmark : selected) {
+            nodes.add(indexed.nodeAt(landmark));
+        }
+
+        return new LandmarkIndex<>(indexed, Collections.unmodifiableList(nodes), fromLandmarks, toLandmarks);
+    }
+
+    // BFS writing distances from (or, if reversed, to) a source into [distances] starting at [offset]
+    static void traverse(@NonNull IndexedGraph<?> graph, int source, boolean reversed, int[] distances, int offset) {
+        var size = graph.size();
+        Arrays.fill(distances, offset, offset + size, UNREACHABLE);
+
+        var queue = new int[size];
+        var head = 0;
+        var tail = 0;
+        queue[tail++] = source;
+        distances[offset + source] = 0;
+        while (head < tail) {
+            var node = queue[head++];
+            var next = distances[offset + node] + 1;
+            var degree = reversed ? graph.inDegree(node) : graph.outDegree(node);
+            for (int k = 0; k < degree; k++) {
+                var neighbour = reversed ? graph.inNeighbour(node, k) : graph.outNeighbour(node, k);
+                if (distances[offset + neighbour] == UNREACHABLE) {
+                    distances[offset + neighbour] = next;
+                    queue[tail++] = neighbour;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return landmark nodes
+     */
+    @NonNull
+    public List<N> getLandmarks() {
+        return landmarks;
+    }
+
+    /**
+     * Returns a lower bound of a distance between nodes - the number of edges in a shortest path.
+     *
+     * @param source the node u
+     * @param target the node v
+     * @return the bound or {@code -1} if landmarks prove there is no path or one of the nodes is not indexed
+     */
+    public int lowerBound(@NonNull N source, @NonNull N target) {
+        var u = graph.indexOf(source);
+        var v = graph.indexOf(target);
+        if (u < 0 || v < 0) {
+            return UNREACHABLE;
+        }
+
+        return estimate(u, v);
+    }
+
+    /**
+     * Returns an upper bound of a distance between nodes - the length of a shortest path through some landmark.
+     * This is an approximate distance, exact for nodes on a shortest path from or to a landmark.
+     *
+     * @param source the node u
+     * @param target the node v
+     * @return the bound or {@code -1} if no landmark connects the nodes or one of the nodes is not indexed
+     */
+    public int upperBound(@NonNull N source, @NonNull N target) {
+        var u = graph.indexOf(source);
+        var v = graph.indexOf(target);
+        if (u < 0 || v < 0) {
+            return UNREACHABLE;
+        }
+
+        if (u == v) {
+            return 0;
+        }
+
+        var size = graph.size();
+        var bound = UNREACHABLE;
+        for (int offset = 0; offset < fromLandmarks.length; offset += size) {
+            var toLandmark = toLandmarks[offset + u];
+            var fromLandmark = fromLandmarks[offset + v];
+            if (toLandmark != UNREACHABLE && fromLandmark != UNREACHABLE
+                    && (bound == UNREACHABLE || toLandmark + fromLandmark < bound)) {
+                bound = toLandmark + fromLandmark;
+            }
+        }
+
+        return bound;
+    }
+
+    /**
+     * Gets a shortest path between nodes by an A* search over the indexed snapshot.
+     * The path is as long as the one of {@link Graph#getPaths(List, List)}, but may go through other nodes
+     * when there are several shortest paths.
+     * <p>
+     * A search needs {@code O(#nodes)} of memory. It is reused by later searches, the index keeps at most
+     * one per available processor.
+     *
+     * @param source the node u
+     * @param target the node v
+     * @return the path or an empty list if path does not exists, or one of the nodes is not indexed
+     */
+    @NonNull
+    public List<GraphEdge<N>> getPath(@NonNull N source, @NonNull N target) {
+        var u = graph.indexOf(source);
+        var v = graph.indexOf(target);
+        if (u < 0 || v < 0 || u == v) {
+            return Collections.emptyList();
+        }
+
+        var search = searches.poll();
+        if (search == null) {
+            search = new Search(graph.size());
+        }
+
+        try {
+            return search.find(u, v);
+        } finally {
+            searches.offer(search);
+        }
+    }
+
+    /**
+     * Writes the index into a stream. Nodes are written as strings produced by {@code encoder}.
+     * The stream is not closed.
+     *
+     * @param out     a stream to write to
+     * @param encoder node to string conversion
+     * @throws IOException if writing fails
+     */
+    public void writeTo(@NonNull OutputStream out, @NonNull Function<? super N, String> encoder) throws IOException {
+        var data = new DataOutputStream(new BufferedOutputStream(out));
+        var size = graph.size();
+
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeBoolean(graph.isDirected());
+        data.writeInt(size);
+        data.writeInt(landmarks.size());
+        for (N landmark : landmarks) {
+            data.writeUTF(encoder.apply(landmark));
+        }
+
+        for (int n = 0; n < size; n++) {
+            data.writeUTF(encoder.apply(graph.nodeAt(n)));
+            for (int offset = 0; offset < fromLandmarks.length; offset += size) {
+                data.writeInt(fromLandmarks[offset + n]);
+            }
+
+            if (graph.isDirected()) {
+                for (int offset = 0; offset < toLandmarks.length; offset += size) {
+                    data.writeInt(toLandmarks[offset + n]);
+                }
+            }
+        }
+
+        data.flush();
+    }
+
+    /**
+     * Reads an index written by {@link #writeTo(OutputStream, Function)} for a given graph.
+     * The graph must be the same as the indexed one, which is checked only by its nodes: every written node
+     * and landmark must be decoded to a distinct node of the graph.
+     * The stream is not closed.
+     *
+     * @param in      a stream to read from
+     * @param graph   the indexed graph
+     * @param decoder string to node conversion
+     * @return the index
+     * @throws IOException              if reading fails or the stream does not contain an index
+     * @throws IllegalArgumentException if the index does not match the graph or is too large
+     */
+    @NonNull
+    public static <N> LandmarkIndex<N> readFrom(@NonNull InputStream in,
+                                                @NonNull Graph<N> graph,
+                                                @NonNull Function<String, ? extends N> decoder) throws IOException {
+        var data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Stream does not contain a landmark index");
+        }
+
+        var version = data.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported landmark index version: " + version);
+        }
+
+        var indexed = IndexedGraph.of(graph);
+        var directed = data.readBoolean();
+        var size = data.readInt();
+        if (directed != indexed.isDirected() || size != indexed.size()) {
+            throw new IllegalArgumentException("[graph] does not match the index");
+        }
+
+        var count = data.readInt();
+        if (count <= 0) {
+            throw new IOException("Stream does not contain a landmark index");
+        }
+
+        var nodes = new ArrayList<N>(count);
+        for (int l = 0; l < count; l++) {
+            var landmark = decoder.apply(data.readUTF());
+            if (indexed.indexOf(landmark) < 0) {
+                throw new IllegalArgumentException("[graph] does not contain landmark " + landmark);
+            }
+
+            nodes.add(landmark);
+        }
+
+        var fromLandmarks = new int[tableSize(count, size)];
+        var toLandmarks = directed ? new int[fromLandmarks.length] : fromLandmarks;
+        // Every node must have its own row, a missing one would leave zero distances and break the lower bound
+        var read = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            var n = indexed.indexOf(decoder.apply(data.readUTF()));
+            if (n < 0 || read.get(n)) {
+                throw new IllegalArgumentException("[graph] does not match the index");
+            }
+
+            read.set(n);
+
+            for (int offset = 0; offset < fromLandmarks.length; offset += size) {
+                fromLandmarks[offset + n] = data.readInt();
+            }
+
+            if (directed) {
+                for (int offset = 0; offset < toLandmarks.length; offset += size) {
+                    toLandmarks[offset + n] = data.readInt();
+                }
+            }
+        }
+
+        return new LandmarkIndex<>(indexed, Collections.unmodifiableList(nodes), fromLandmarks, toLandmarks);
+    }
+
+    // Length of a table of distances for every landmark and node
+    private static int tableSize(int landmarks, int size) {
+        try {
+            return Math.multiplyExact(landmarks, size);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(
+                    "[landmarks] x nodes must fit an array, got " + landmarks + " x " + size, e);
+        }
+    }
+
+    // Lower bound of a distance between nodes by indices, UNREACHABLE if there is no path
+    private int estimate(int u, int v) {
+        var size = graph.size();
+        var directed = graph.isDirected();
+        var bound = 0;
+        for (int offset = 0; offset < fromLandmarks.length; offset += size) {
+            var fromU = fromLandmarks[offset + u];
+            var fromV = fromLandmarks[offset + v];
+            if (directed) {
+                // A path u -> v would extend a path landmark -> u to v, and a path v -> landmark to u
+                var toU = toLandmarks[offset + u];
+                var toV = toLandmarks[offset + v];
+                if ((fromU != UNREACHABLE && fromV == UNREACHABLE) || (toV != UNREACHABLE && toU == UNREACHABLE)) {
+                    return UNREACHABLE;
+                }
+
+                if (fromU != UNREACHABLE) {
+                    bound = Math.max(bound, fromV - fromU);
+                }
+
+                if (toV != UNREACHABLE) {
+                    bound = Math.max(bound, toU - toV);
+                }
+            } else {
+                if ((fromU == UNREACHABLE) != (fromV == UNREACHABLE)) {
+                    return UNREACHABLE;
+                }
+
+                if (fromU != UNREACHABLE) {
+                    bound = Math.max(bound, Math.abs(fromV - fromU));
+                }
+            }
+        }
+
+        return bound;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "LandmarkIndex(" + graph + "; landmarks=" + landmarks + ')';
+    }
+
+    /**
+     * State of an A* search, reused by later searches. Used by a single search at a time.
+     * Arrays are not cleared between searches, instead an entry is valid only if stamped by the current search.
+     */
+    private final class Search {
+
+        private final int[] stamps;
+        private final int[] distances;
+        private final int[] estimates;
+        private final int[] parents;
+        private final boolean[] settled;
+
+        // Min-heap of (f-score << 32 | node)
+        private long[] heap = new long[16];
+        private int heapSize;
+
+        private int stamp;
+
+        private Search(int size) {
+            this.stamps = new int[size];
+            this.distances = new int[size];
+            this.estimates = new int[size];
+            this.parents = new int[size];
+            this.settled = new boolean[size];
+        }
+
+        @NonNull
+        private List<GraphEdge<N>> find(int source, int target) {
+            var estimate = estimate(source, target);
+            if (estimate == UNREACHABLE) {
+                return Collections.emptyList();
+            }
+
+            if (++stamp == Integer.MAX_VALUE) {
+                Arrays.fill(stamps, 0);
+                stamp = 1;
+            }
+
+            heapSize = 0;
+            touch(source, 0, -1, estimate);
+            push(estimate, source);
+
+            while (heapSize > 0) {
+                var node = (int) pop();
+                if (settled[node]) {
+                    continue;
+                }
+
+                if (node == target) {
+                    return backtrace(source, target);
+                }
+
+                settled[node] = true;
+                var next = distances[node] + 1;
+                for (int k = 0, degree = graph.outDegree(node); k < degree; k++) {
+                    var neighbour = graph.outNeighbour(node, k);
+                    if (stamps[neighbour] != stamp) {
+                        var h = estimate(neighbour, target);
+                        touch(neighbour, next, node, h);
+                        if (h != UNREACHABLE) {
+                            push(next + h, neighbour);
+                        }
+                    } else if (!settled[neighbour] && next < distances[neighbour]
+                            && estimates[neighbour] != UNREACHABLE) {
+                        distances[neighbour] = next;
+                        parents[neighbour] = node;
+                        push(next + estimates[neighbour], neighbour);
+                    }
+                }
+            }
+
+            return Collections.emptyList();
+        }
+
+        private void touch(int node, int distance, int parent, int estimate) {
+            stamps[node] = stamp;
+            distances[node] = distance;
+            parents[node] = parent;
+            estimates[node] = estimate;
+            settled[node] = false;
+        }
+
+        @NonNull
+        private List<GraphEdge<N>> backtrace(int source, int target) {
+            var path = new LinkedList<GraphEdge<N>>();
+            for (int node = target; node != source; node = parents[node]) {
+                path.addFirst(graph.edgeOf(parents[node], node));
+            }
+
+            return path;
+        }
+
+        private void push(int score, int node) {
+            if (heapSize == heap.length) {
+                heap = Arrays.copyOf(heap, heapSize * 2);
+            }
+
+            var entry = ((long) score << 32) | node;
+            var i = heapSize++;
+            while (i > 0) {
+                var parent = (i - 1) >>> 1;
+                if (heap[parent] <= entry) {
+                    break;
+                }
+
+                heap[i] = heap[parent];
+                i = parent;
+            }
+            heap[i] = entry;
+        }
+
+        private long pop() {
+            var top = heap[0];
+            var last = heap[--heapSize];
+            var i = 0;
+            while (true) {
+                var child = 2 * i + 1;
+                if (child >= heapSize) {
+                    break;
+                }
+
+                if (child + 1 < heapSize && heap[child + 1] < heap[child]) {
+                    child++;
+                }
+
+                if (last <= heap[child]) {
+                    break;
+                }
+
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = last;
+
+            return top;
+        }
+
+    }
+
+}
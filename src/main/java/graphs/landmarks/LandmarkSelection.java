@@ -0,0 +1,99 @@
+package graphs.landmarks;
+
+import graphs.IndexedGraph;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Strategies of selecting landmarks for a {@link LandmarkIndex}.
+ * <p>
+ * Bounds of a landmark index are tight for nodes which lie "behind" some landmark,
+ * so landmarks spread over the periphery of a graph give better bounds than landmarks in its center.
+ */
+public enum LandmarkSelection {
+
+    /**
+     * Uniformly random nodes. Cheapest to select, gives the loosest bounds.
+     */
+    RANDOM {
+        @Override
+        int[] select(@NonNull IndexedGraph<?> graph, int count, @NonNull SplittableRandom random) {
+            var nodes = IntStream.range(0, graph.size()).toArray();
+            // Partial Fisher-Yates shuffle
+            for (int i = 0; i < count; i++) {
+                var j = i + random.nextInt(nodes.length - i);
+                var node = nodes[j];
+                nodes[j] = nodes[i];
+                nodes[i] = node;
+            }
+
+            return Arrays.copyOf(nodes, count);
+        }
+    },
+
+    /**
+     * Nodes with the most edges. Hubs are cheap to find and lie on many shortest paths.
+     */
+    DEGREE {
+        @Override
+        int[] select(@NonNull IndexedGraph<?> graph, int count, @NonNull SplittableRandom random) {
+            return IntStream.range(0, graph.size())
+                    .boxed()
+                    .sorted(Comparator.comparingInt((Integer n) -> graph.outDegree(n) + graph.inDegree(n)).reversed())
+                    .limit(count)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+    },
+
+    /**
+     * Starting from a random node, each next landmark is the node farthest from the already selected ones.
+     * Nodes not reachable from any landmark are preferred, so every component gets a landmark.
+     * Costs a traversal of the graph per landmark, gives the tightest bounds.
+     */
+    FARTHEST {
+        @Override
+        int[] select(@NonNull IndexedGraph<?> graph, int count, @NonNull SplittableRandom random) {
+            var size = graph.size();
+            var landmarks = new int[count];
+            if (count == 0) {
+                return landmarks;
+            }
+
+            var nearest = new int[size];
+            Arrays.fill(nearest, Integer.MAX_VALUE);
+            var distances = new int[size];
+
+            landmarks[0] = random.nextInt(size);
+            for (int i = 1; i < count; i++) {
+                LandmarkIndex.traverse(graph, landmarks[i - 1], false, distances, 0);
+
+                var farthest = -1;
+                for (int n = 0; n < size; n++) {
+                    if (distances[n] >= 0) {
+                        nearest[n] = Math.min(nearest[n], distances[n]);
+                    }
+
+                    if (farthest < 0 || nearest[n] > nearest[farthest]) {
+                        farthest = n;
+                    }
+                }
+
+                landmarks[i] = farthest;
+            }
+
+            return landmarks;
+        }
+    };
+
+    /**
+     * @param count number of landmarks, not greater than the graph size
+     * @return indices of landmarks
+     */
+    abstract int[] select(@NonNull IndexedGraph<?> graph, int count, @NonNull SplittableRandom random);
+
+}
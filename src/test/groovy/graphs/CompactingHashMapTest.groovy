@@ -0,0 +1,52 @@
+package graphs
+
+import spock.lang.Specification
+
+/**
+ * @see CompactingHashMap
+ */
+class CompactingHashMapTest extends Specification {
+
+    def "Keeps entries and views across compaction"() {
+        given:
+        def map = new CompactingHashMap<Integer, String>()
+        def keys = map.keySet()
+        def view = Collections.unmodifiableMap(map)
+
+        when:
+        1000.times { map.put(it, it.toString()) }
+        900.times { map.remove(it) }
+
+        then:
+        map.size() == 100
+        keys == (900..<1000) as Set
+        view.size() == 100
+        view[950] == '950'
+
+        and:
+        !map.remove(950, 'other')
+        map.remove(950, '950')
+        !map.containsKey(950)
+
+        when:
+        map.put(1, 'one')
+
+        then:
+        keys.contains(1)
+        map == view
+    }
+
+    def "Empties and refills"() {
+        given:
+        def map = new CompactingHashMap<Integer, Integer>()
+
+        when:
+        100.times { map.put(it, it) }
+        map.clear()
+        map.put(1, 1)
+
+        then:
+        map == [1: 1]
+    }
+
+}
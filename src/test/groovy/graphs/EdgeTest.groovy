@@ -86,6 +86,22 @@ class EdgeTest extends Specification {
         Edge.ordered(1, 2) != Edge.unordered(2, 1)
     }
 
+    @Unroll
+    def "Hash code of (#u, #v) is as of Objects.hash"() {
+        expect:
+        Edge.ordered(u, v).hashCode() == Objects.hash(u, v)
+        Edge.unordered(u, v).hashCode() == Objects.hash(u, v) + Objects.hash(v, u)
+
+        and:
+        Edge.unordered(u, v).hashCode() == Edge.unordered(v, u).hashCode()
+
+        where:
+        u   | v
+        1   | 2
+        3   | 3
+        'a' | 'b'
+    }
+
     @CompileStatic
     private static <N> boolean staticEquals(GraphEdge<N> e1, GraphEdge<N> e2) {
         return Objects.equals(e1, e2)
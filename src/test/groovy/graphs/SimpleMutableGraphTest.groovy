@@ -220,6 +220,276 @@ class SimpleMutableGraphTest extends Specification {
         graph6() | 1 | 1 || []
     }
 
+    @Unroll
+    def "Has edge (#u, #v) on #directed graph"() {
+        expect:
+        g.hasEdge(u, v) == has
+
+        and: 'same as probing edges'
+        g.edges.contains(g.directed ? Edge.ordered(u, v) : Edge.unordered(u, v)) == has
+
+        where:
+        g        | u  | v || has
+        graph0() | 0  | 4 || true
+        graph0() | 4  | 0 || true
+        graph0() | 4  | 1 || false
+        graph0() | 42 | 1 || false
+        graph5() | 1  | 2 || true
+        graph5() | 2  | 1 || false
+        graph6() | 2  | 2 || true
+        graph6() | 1  | 1 || false
+
+        directed = g.directed ? 'directed' : 'undirected'
+    }
+
+    def "Self-loop on undirected graph"() {
+        given:
+        def g = newUndirected()
+
+        expect:
+        g.addEdge(1, 1)
+        !g.addEdge(1, 1)
+        g.hasEdge(1, 1)
+        g.getPath(1, 1) == [Edge.unordered(1, 1)]
+
+        and:
+        g.removeEdge(1, 1)
+        !g.hasEdge(1, 1)
+        g.edges.isEmpty()
+    }
+
+    def "Remove edges from undirected graph"() {
+        given:
+        def g = graph0()
+
+        expect:
+        g.removeEdge(6, 1)
+        !g.removeEdge(1, 6)
+        !g.removeEdge(1, 42)
+
+        and: 'nodes are kept'
+        g.nodes.containsAll(1, 6)
+        !g.edges.contains(Edge.unordered(1, 6))
+
+        and: 'path goes around'
+        g.getPath(0, 6).size() == 3
+
+        and: 'edge can be added back'
+        g.addEdge(1, 6)
+        g.getPath(0, 6).size() == 2
+    }
+
+    def "Remove edges from directed graph"() {
+        given:
+        def g = graph5()
+
+        expect:
+        !g.removeEdge(3, 2)
+        g.removeEdge(2, 3)
+
+        and:
+        g.getPath(1, 3).isEmpty()
+        g.getPath(4, 2) == [Edge.ordered(4, 2)]
+    }
+
+    @Unroll
+    def "Remove vertex #node from #directed graph"() {
+        when:
+        def removed = g.removeVertex(node)
+
+        then:
+        removed
+
+        and:
+        !g.nodes.contains(node)
+        g.edges.every { it.nodeU != node && it.nodeV != node }
+        g.edges.size() == edges
+
+        and: 'node can not be removed twice'
+        !g.removeVertex(node)
+
+        and: 'paths do not go through removed node'
+        g.getPath(u, v).size() == ps
+
+        where:
+        g        | node || edges || u | v || ps
+        graph0() | 6    || 6     || 3 | 5 || 4
+        graph0() | 0    || 7     || 4 | 1 || 0
+        graph6() | 3    || 10    || 1 | 5 || 0
+        graph6() | 2    || 12    || 1 | 4 || 2
+        graph6() | 7    || 12    || 1 | 8 || 0
+
+        directed = g.directed ? 'directed' : 'undirected'
+    }
+
+    @Unroll
+    def "Most of #kind graph is removed"() {
+        given: 'a line 0 - 1 - ... - 299'
+        def g = new SimpleMutableGraph<Integer>(directed)
+        (0..<299).each { g.addEdge(it, it + 1) }
+        def nodes = g.nodes
+        def edges = g.edges
+
+        when: 'structures shrink'
+        (50..<300).each { g.removeVertex(it) }
+
+        then: 'views are kept'
+        nodes == (0..<50) as Set
+        edges.size() == 49
+        edges == g.edges
+
+        and:
+        g.hasEdge(48, 49)
+        !g.hasEdge(49, 50)
+        g.getPath(0, 49).size() == 49
+        g.getPath(0, 50).isEmpty()
+
+        when:
+        g.addEdge(49, 50)
+
+        then:
+        g.getPath(0, 50).size() == 50
+        nodes.size() == 51
+
+        where:
+        directed << [false, true]
+        kind = directed ? 'directed' : 'undirected'
+    }
+
+    def "Removed vertex is added anew"() {
+        given:
+        def g = graph6()
+
+        when:
+        g.removeVertex(2)
+        g.addVertex(2)
+
+        then:
+        g.getPath(1, 2).isEmpty()
+        g.getPath(2, 4).isEmpty()
+    }
+
+    def "Batch distances on undirected graph"() {
+        when:
+        def distances = graph0().getDistances([0, 5, 4, 1, 1, 42], [6, 6, 2, 1, 7, 1])
+
+        then:
+        distances == [2, 1, 2, 0, 2, -1] as int[]
+
+        and: 'no path between disjoint nodes'
+        graph3().getDistances([1, 2], [3, 4]) == [-1, 1] as int[]
+    }
+
+    def "Batch distances on directed graph"() {
+        given:
+        def sources = [1, 1, 9, 7, 8, 2]
+        def targets = [5, 7, 6, 1, 1, 2]
+
+        expect:
+        graph6().getDistances(sources, targets) == [2, 1, 1, -1, -1, 0] as int[]
+    }
+
+    def "Batch distances match single paths"() {
+        given:
+        def g = graph6()
+        def sources = (1..9).collectMany { u -> (1..9).collect { u } }
+        def targets = (1..9).collectMany { u -> (1..9).collect { it } }
+
+        when:
+        def distances = g.getDistances(sources, targets)
+        def paths = g.getPaths(sources, targets)
+
+        then:
+        sources.indices.every { i ->
+            def expected = sources[i] == targets[i] ? 0 : g.getPath(sources[i], targets[i]).size() ?: -1
+            distances[i] == expected && paths[i].size() == Math.max(0, expected)
+        }
+    }
+
+    @Unroll
+    def "Batch of #sourceCount sources on #kind graph matches single paths"() {
+        given: 'more sources than one batch takes'
+        def g = randomGraph(directed, 300, 600)
+        def random = new Random(7)
+        def sources = (0..<sourceCount).collectMany { u -> (1..3).collect { u } }
+        def targets = sources.collect { random.nextInt(300) }
+
+        when:
+        def distances = g.getDistances(sources, targets)
+        def paths = g.getPaths(sources, targets)
+
+        then:
+        sources.indices.every { i -> matchesSinglePath(g, sources[i], targets[i], distances[i], paths[i]) }
+
+        where:
+        directed | sourceCount
+        false    | 100
+        true     | 100
+        true     | 64
+        true     | 65
+
+        kind = directed ? 'directed' : 'undirected'
+    }
+
+    def "Narrow batches of paths match single paths"() {
+        given:
+        def g = randomGraph(true, 300, 600)
+        def random = new Random(7)
+        def sources = (0..<20).collectMany { u -> (1..3).collect { u } }
+        def targets = sources.collect { random.nextInt(300) }
+
+        when: 'parents limit allows 7 traversals at once, so sources are split into 3 batches'
+        def paths = MultiSourceBfs.paths(IndexedGraph.of(g), sources, targets, 7 * 300)
+        def distances = g.getDistances(sources, targets)
+
+        then:
+        sources.indices.every { i -> matchesSinglePath(g, sources[i], targets[i], distances[i], paths[i]) }
+    }
+
+    def "Batch paths"() {
+        when:
+        def paths = graph6().getPaths([1, 8, 1], [5, 1, 7])
+
+        then:
+        paths == [
+                [Edge.ordered(1, 3), Edge.ordered(3, 5)],
+                [],
+                [Edge.ordered(1, 7)]
+        ]
+    }
+
+    def "Batch queries must be paired"() {
+        when:
+        graph0().getDistances([1, 2], [3])
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    private static SimpleMutableGraph<Integer> randomGraph(boolean directed, int nodes, int edges) {
+        def random = new Random(42)
+        def g = new SimpleMutableGraph<Integer>(directed)
+        (0..<nodes).each { g.addVertex(it) }
+        edges.times { g.addEdge(random.nextInt(nodes), random.nextInt(nodes)) }
+        return g
+    }
+
+    // Distance and path of a batch query are as long as the path found by getPath, and the path is connected
+    private static boolean matchesSinglePath(Graph<Integer> g, int source, int target,
+                                             int distance, List<GraphEdge<Integer>> path) {
+        def expected = source == target ? 0 : g.getPath(source, target).size() ?: -1
+        def node = source
+        def connected = path.every { edge ->
+            def next = edge.nodeU == node ? edge.nodeV : edge.nodeU
+            def adjacent = g.edges.contains(edge) && (edge.nodeU == node || (!g.directed && edge.nodeV == node))
+            node = next
+            adjacent
+        }
+
+        def reached = path.isEmpty() || node == target
+        return distance == expected && path.size() == Math.max(0, expected) && connected && reached
+    }
+
     private static SimpleMutableGraph<Integer> newUndirected() {
         return new SimpleMutableGraph<>(false)
     }
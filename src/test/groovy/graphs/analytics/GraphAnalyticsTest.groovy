@@ -0,0 +1,227 @@
+package graphs.analytics
+
+import graphs.Graph
+import graphs.SimpleMutableGraph
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.concurrent.ForkJoinPool
+
+/**
+ * @see GraphAnalytics
+ */
+class GraphAnalyticsTest extends Specification {
+
+    def "Connected components of undirected graph"() {
+        given:
+        def components = GraphAnalytics.of(graph0()).connectedComponents()
+
+        expect:
+        components.count == 3
+
+        and:
+        components.isConnected(0, 7)
+        components.isConnected(10, 11)
+        !components.isConnected(0, 10)
+        !components.isConnected(0, 20)
+
+        and:
+        components.componentOf(42) == -1
+
+        and:
+        components.asSets() as Set == [[0, 1, 2, 3, 4, 5, 6, 7] as Set, [10, 11] as Set, [20] as Set] as Set
+    }
+
+    def "Connected components of directed graph ignore directions"() {
+        given: '1 -> 2 <- 3   4 -> 5'
+        def g = new SimpleMutableGraph<Integer>(true)
+        g.addEdge(1, 2)
+        g.addEdge(3, 2)
+        g.addEdge(4, 5)
+
+        when:
+        def components = GraphAnalytics.of(g).connectedComponents()
+
+        then:
+        components.count == 2
+        components.isConnected(1, 3)
+        !components.isConnected(3, 4)
+        components.sizeOf(components.componentOf(2)) == 3
+    }
+
+    def "Connected components on a large random graph"() {
+        given:
+        def random = new Random(42)
+        def g = new SimpleMutableGraph<Integer>(false)
+        (0..<5000).each { g.addVertex(it) }
+        3000.times { g.addEdge(random.nextInt(5000), random.nextInt(5000)) }
+
+        when:
+        def components = GraphAnalytics.of(g, new ForkJoinPool(4)).connectedComponents()
+
+        then: 'every edge is within a component'
+        g.edges.every { components.isConnected(it.nodeU, it.nodeV) }
+
+        and: 'components are not merged needlessly'
+        components.count == sequentialComponents(g)
+    }
+
+    @Unroll
+    def "Degrees: out #outHistogram, in #inHistogram"() {
+        when:
+        def analytics = GraphAnalytics.of(g)
+        def out = analytics.outDegrees()
+        def inc = analytics.inDegrees()
+
+        then:
+        out.histogram == outHistogram as long[]
+        inc.histogram == inHistogram as long[]
+
+        and:
+        out.max == outHistogram.size() - 1
+        out.degreeOf(node) == degree
+
+        where:
+        g        || outHistogram    || inHistogram     || node || degree
+        graph0() || [1, 3, 3, 3, 1] || [1, 3, 3, 3, 1] || 6    || 4
+        graph1() || [1, 1, 1, 1]    || [1, 1, 1, 1]    || 1    || 3
+    }
+
+    @Unroll
+    def "Self-loop counts once in degrees of #directed graph"() {
+        given: '1 - 1 - 2'
+        def g = new SimpleMutableGraph<Integer>(directed)
+        g.addEdge(1, 1)
+        g.addEdge(1, 2)
+
+        when:
+        def analytics = GraphAnalytics.of(g)
+
+        then:
+        analytics.outDegrees().degreeOf(1) == 2
+        analytics.inDegrees().degreeOf(1) == inDegree
+
+        where:
+        directed || inDegree
+        false    || 2
+        true     || 1
+    }
+
+    def "Degrees of empty graph"() {
+        when:
+        def degrees = GraphAnalytics.of(new SimpleMutableGraph<Integer>(false)).outDegrees()
+
+        then:
+        degrees.histogram.length == 0
+        degrees.min == 0
+        degrees.max == 0
+    }
+
+    def "PageRank sums up to one"() {
+        when:
+        def ranks = GraphAnalytics.of(g).pageRank()
+
+        then:
+        ranks.converged
+        Math.abs(ranks.asMap().values().sum() - 1.0) < 1e-9
+
+        where:
+        g << [graph0(), graph1()]
+    }
+
+    def "PageRank of a directed graph"() {
+        when:
+        def ranks = GraphAnalytics.of(graph1()).pageRank()
+
+        then: 'node 4 is linked from every other node'
+        [1, 2, 3].every { ranks.rankOf(4) > ranks.rankOf(it) }
+
+        and:
+        ranks.rankOf(42) == 0
+    }
+
+    def "PageRank of symmetric graph is uniform"() {
+        given: 'a cycle'
+        def g = new SimpleMutableGraph<Integer>(false)
+        (0..<10).each { g.addEdge(it, (it + 1) % 10) }
+
+        when:
+        def ranks = GraphAnalytics.of(g).pageRank()
+
+        then:
+        (0..<10).every { Math.abs(ranks.rankOf(it) - 0.1) < 1e-9 }
+    }
+
+    @Unroll
+    def "PageRank arguments are validated: #damping, #tolerance, #iterations"() {
+        when:
+        GraphAnalytics.of(graph0()).pageRank(damping, tolerance, iterations)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        damping | tolerance | iterations
+        0       | 1e-6      | 10
+        1       | 1e-6      | 10
+        0.85    | 0         | 10
+        0.85    | 1e-6      | 0
+    }
+
+    private static int sequentialComponents(Graph<Integer> g) {
+        def parents = [:]
+        def find
+        find = { n -> parents[n] == n ? n : find(parents[n]) }
+        g.nodes.each { parents[it] = it }
+        g.edges.each { parents[find(it.nodeU)] = find(it.nodeV) }
+
+        return g.nodes.collect { find(it) }.toSet().size()
+    }
+
+    /*
+       4
+     /
+    0 -- 1 -- 5 -- 7     10 -- 11     20
+    |     \  /   /
+    |      6 --+
+    |     /
+    2 -- 3
+    */
+
+    private static Graph<Integer> graph0() {
+        def g = new SimpleMutableGraph<Integer>(false)
+        g.addEdge(0, 4)
+        g.addEdge(0, 1)
+        g.addEdge(0, 2)
+        g.addEdge(1, 5)
+        g.addEdge(2, 3)
+        g.addEdge(3, 6)
+        g.addEdge(5, 6)
+        g.addEdge(1, 6)
+        g.addEdge(5, 7)
+        g.addEdge(7, 6)
+        g.addEdge(10, 11)
+        g.addVertex(20)
+
+        return g
+    }
+
+    /*
+    Node 4 has no outgoing edges
+    1 -> 2 -> 4
+    ↓ ↘  ↑  ↗
+    ↓   3    ↑
+    + ------>+
+    */
+
+    private static Graph<Integer> graph1() {
+        def g = new SimpleMutableGraph<Integer>(true)
+        g.connect(1, [2, 3, 4] as Integer[])
+        g.addEdge(2, 4)
+        g.addEdge(3, 2)
+        g.addEdge(3, 4)
+
+        return g
+    }
+
+}
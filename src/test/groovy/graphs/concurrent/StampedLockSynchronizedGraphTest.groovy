@@ -0,0 +1,98 @@
+package graphs.concurrent
+
+import graphs.Edge
+import graphs.SimpleMutableGraph
+import spock.lang.Specification
+
+/**
+ * @see StampedLockSynchronizedGraph
+ */
+class StampedLockSynchronizedGraphTest extends Specification {
+
+    def "Delegates graph operations"() {
+        given:
+        def g = new StampedLockSynchronizedGraph<Integer>(new SimpleMutableGraph<>(false))
+
+        expect:
+        g.addEdge(1, 2)
+        g.addEdge(2, 3)
+        !g.addEdge(2, 1)
+
+        and:
+        g.connect(3, [4, 5] as Integer[]) == [true, true] as boolean[]
+
+        and:
+        g.nodes == [1, 2, 3, 4, 5] as Set
+        g.edges.size() == 4
+        g.getPath(1, 4) == [Edge.unordered(1, 2), Edge.unordered(2, 3), Edge.unordered(3, 4)]
+        !g.directed
+    }
+
+    def "Snapshots are immutable and shared until mutation"() {
+        given:
+        def g = new StampedLockSynchronizedGraph<Integer>(new SimpleMutableGraph<>(true))
+        g.addEdge(1, 2)
+
+        when:
+        def nodes = g.nodes
+        def edges = g.edges
+
+        then:
+        g.nodes.is(nodes)
+        g.edges.is(edges)
+
+        when:
+        nodes.add(3)
+
+        then:
+        thrown(UnsupportedOperationException)
+
+        when: 'any mutation renews snapshots'
+        g.addEdge(1, 2)
+
+        then:
+        !g.nodes.is(nodes)
+        g.nodes == nodes
+
+        when:
+        g.addEdge(2, 3)
+
+        then: 'older snapshots are not changed'
+        nodes == [1, 2] as Set
+        edges == [Edge.ordered(1, 2)] as Set
+
+        and:
+        g.nodes == [1, 2, 3] as Set
+        g.edges == [Edge.ordered(1, 2), Edge.ordered(2, 3)] as Set
+
+        when:
+        g.removeVertex(2)
+
+        then:
+        g.nodes == [1, 3] as Set
+        g.edges.isEmpty()
+    }
+
+    def "Snapshots are safe to iterate while graph is mutated"() {
+        given:
+        def g = new StampedLockSynchronizedGraph<Integer>(new SimpleMutableGraph<>(false))
+        def writer = Thread.start {
+            10_000.times { g.addEdge(it, it + 1) }
+        }
+
+        when:
+        while (writer.alive) {
+            g.edges.each { assert it.nodeV == it.nodeU + 1 }
+            g.nodes.each { assert it != null }
+        }
+        writer.join()
+
+        then:
+        notThrown(ConcurrentModificationException)
+
+        and:
+        g.edges.size() == 10_000
+        g.nodes.size() == 10_001
+    }
+
+}
@@ -0,0 +1,170 @@
+package graphs.landmarks
+
+import graphs.Edge
+import graphs.Graph
+import graphs.SimpleMutableGraph
+import spock.lang.Specification
+import spock.lang.Unroll
+
+/**
+ * @see LandmarkIndex
+ */
+class LandmarkIndexTest extends Specification {
+
+    @Unroll
+    def "Bounds enclose distances on #selection landmarks"() {
+        given:
+        def g = grid(directed)
+        def index = LandmarkIndex.build(g, 4, selection)
+        def nodes = g.nodes.toList()
+        def sources = nodes.collectMany { u -> nodes.collect { u } }
+        def targets = nodes.collectMany { u -> nodes }
+
+        when:
+        def distances = g.getDistances(sources, targets)
+
+        then:
+        index.landmarks.size() == 4
+
+        and:
+        sources.indices.every { i ->
+            def lower = index.lowerBound(sources[i], targets[i])
+            def upper = index.upperBound(sources[i], targets[i])
+            distances[i] < 0 ? upper == -1 : (0 <= lower && lower <= distances[i] && (upper == -1 || distances[i] <= upper))
+        }
+
+        where:
+        [selection, directed] << [LandmarkSelection.values(), [false, true]].combinations()
+    }
+
+    @Unroll
+    def "A* paths are shortest on #selection landmarks"() {
+        given:
+        def g = grid(directed)
+        def index = LandmarkIndex.build(g, 3, selection)
+        def nodes = g.nodes.toList()
+        def sources = nodes.collectMany { u -> nodes.collect { u } }
+        def targets = nodes.collectMany { u -> nodes }
+
+        when:
+        def distances = g.getDistances(sources, targets)
+
+        then:
+        sources.indices.every { i ->
+            def path = index.getPath(sources[i], targets[i])
+            path.size() == Math.max(0, distances[i]) && g.edges.containsAll(path)
+        }
+
+        where:
+        [selection, directed] << [LandmarkSelection.values(), [false, true]].combinations()
+    }
+
+    def "Disjoint nodes"() {
+        given: '1 - 2   3'
+        def g = new SimpleMutableGraph<Integer>(false)
+        g.addEdge(1, 2)
+        g.addVertex(3)
+
+        when:
+        def index = LandmarkIndex.build(g, 2, LandmarkSelection.FARTHEST)
+
+        then: 'every component gets a landmark'
+        index.landmarks.contains(3)
+
+        and:
+        index.lowerBound(1, 3) == -1
+        index.upperBound(1, 3) == -1
+        index.getPath(1, 3).isEmpty()
+
+        and:
+        index.getPath(2, 1) == [Edge.unordered(1, 2)]
+        index.getPath(1, 1).isEmpty()
+        index.getPath(1, 42).isEmpty()
+    }
+
+    def "Landmarks are limited by the graph size"() {
+        given:
+        def g = new SimpleMutableGraph<Integer>(true)
+        g.addEdge(1, 2)
+
+        expect:
+        LandmarkIndex.build(g, 10, LandmarkSelection.RANDOM).landmarks as Set == [1, 2] as Set
+
+        when:
+        LandmarkIndex.build(g, 0, LandmarkSelection.RANDOM)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def "Index is persisted"() {
+        given:
+        def g = grid(true)
+        def index = LandmarkIndex.build(g, 4, LandmarkSelection.DEGREE)
+        def out = new ByteArrayOutputStream()
+
+        when:
+        index.writeTo(out, { it.toString() })
+        def read = LandmarkIndex.readFrom(new ByteArrayInputStream(out.toByteArray()), g, { Integer.valueOf(it) })
+
+        then:
+        read.landmarks == index.landmarks
+        [g.nodes, g.nodes].combinations().every { pair ->
+            def (u, v) = pair
+            read.lowerBound(u, v) == index.lowerBound(u, v) && read.upperBound(u, v) == index.upperBound(u, v)
+        }
+
+        when: 'a different graph'
+        def other = new SimpleMutableGraph<Integer>(true)
+        other.addEdge(1, 2)
+        LandmarkIndex.readFrom(new ByteArrayInputStream(out.toByteArray()), other, { Integer.valueOf(it) })
+
+        then:
+        thrown(IllegalArgumentException)
+
+        when: 'decoder maps two nodes to the same one'
+        LandmarkIndex.readFrom(new ByteArrayInputStream(out.toByteArray()), g, { it == '24' ? 0 : Integer.valueOf(it) })
+
+        then:
+        thrown(IllegalArgumentException)
+
+        when: 'landmark is not a node of the graph'
+        def landmark = index.landmarks[0].toString()
+        LandmarkIndex.readFrom(new ByteArrayInputStream(out.toByteArray()), g, { it == landmark ? 42 : Integer.valueOf(it) })
+
+        then:
+        thrown(IllegalArgumentException)
+
+        when: 'not an index'
+        LandmarkIndex.readFrom(new ByteArrayInputStream(new byte[16]), g, { Integer.valueOf(it) })
+
+        then:
+        thrown(IOException)
+    }
+
+    /*
+    A 5x5 grid, edges go right and down. A directed grid also has some edges going back
+     0 -  1 -  2 -  3 -  4
+     |    |    |    |    |
+     5 -  6 -  7 -  8 -  9
+    ...
+    20 - 21 - 22 - 23 - 24
+    */
+
+    private static Graph<Integer> grid(boolean directed) {
+        def g = new SimpleMutableGraph<Integer>(directed)
+        def width = 5
+        (0..<width).each { i ->
+            (0..<width).each { j ->
+                def n = i * width + j
+                if (j + 1 < width) g.addEdge(n, n + 1)
+                if (i + 1 < width) g.addEdge(n, n + width)
+                if (directed && (n % 3 == 0) && j > 0) g.addEdge(n, n - 1)
+            }
+        }
+        g.addVertex(99)
+
+        return g
+    }
+
+}